@@ -0,0 +1,44 @@
+#!/bin/sh
+# ===========================================
+# 启动参数组合基准：比较 throughput 与 fast-startup 下 /socialInsuranceQuery 的吞吐量和 p99 延迟
+# 用法：scripts/benchmark-launch-profiles.sh [-Dloadtest.*=...]
+#   例如 scripts/benchmark-launch-profiles.sh -Dloadtest.rates=2000,4000,8000,16000 -Dloadtest.stepSeconds=30
+# 服务通过 launch.sh 在独立 JVM 中以 embedded profile（H2，无需 PostgreSQL）启动，
+# 压测客户端为 ./gradlew loadTest（开放模型，报告各到达率下的实际 RPS 与 p99，以及满足 SLO 的最大到达率）；
+# 两种组合使用相同的堆大小（MAX_RAM_PERCENTAGE，默认 25.0）和压测参数，
+# 结果写入 build/reports/launch-profiles/<profile>.txt；GRADLE 可指定 Gradle 命令（默认 ./gradlew）
+# ===========================================
+set -eu
+
+cd "$(dirname "$0")/.."
+
+PORT="${BENCHMARK_PORT:-18080}"
+REPORT_DIR=build/reports/launch-profiles
+mkdir -p "$REPORT_DIR"
+
+GRADLE="${GRADLE:-./gradlew}"
+CLASSPATH="$($GRADLE -q printLoadtestClasspath)"
+
+for profile in throughput fast-startup; do
+    echo "==> JVM_PROFILE=${profile}"
+    JVM_PROFILE="$profile" APP_CLASSPATH="$CLASSPATH" SPRING_PROFILES_ACTIVE=embedded SERVER_PORT="$PORT" \
+        MAX_RAM_PERCENTAGE="${MAX_RAM_PERCENTAGE:-25.0}" LOGGING_LEVEL_ROOT=WARN \
+        scripts/launch.sh >"$REPORT_DIR/${profile}-server.log" 2>&1 &
+    server=$!
+    trap 'kill "$server" 2>/dev/null || true' EXIT INT TERM
+
+    until curl -sf "http://localhost:${PORT}/actuator/health" >/dev/null; do
+        if ! kill -0 "$server" 2>/dev/null; then
+            echo "服务启动失败，日志见 ${REPORT_DIR}/${profile}-server.log" >&2
+            exit 1
+        fi
+        sleep 1
+    done
+
+    $GRADLE -q loadTest -Dloadtest.target="http://localhost:${PORT}" "$@" | tee "$REPORT_DIR/${profile}.txt"
+
+    kill "$server"
+    wait "$server" 2>/dev/null || true
+done
+
+echo "结果已写入 ${REPORT_DIR}/"
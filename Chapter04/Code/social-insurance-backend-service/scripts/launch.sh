@@ -0,0 +1,58 @@
+#!/bin/sh
+# ===========================================
+# 服务启动脚本（Dockerfile.prod 的 ENTRYPOINT）
+# 通过 JVM_PROFILE 选择 JVM 参数组合：
+#   throughput（默认）：C1 + C2 分层编译全开，G1 收集器，初始堆与最大堆相同（避免运行中扩容）；
+#                     预热稍慢，稳态吞吐量和尾延迟最好，适用于常驻的服务实例
+#   fast-startup：     仅使用 C1 编译（TieredStopAtLevel=1），串行收集器；
+#                     启动快、内存占用少，但热路径停留在 C1 代码质量，稳态吞吐量明显较低，
+#                     适用于迁移任务、一次性命令和短生命周期的实例
+# 两种组合的吞吐量与 p99 对比：scripts/benchmark-launch-profiles.sh
+#
+# 其他环境变量：
+#   MAX_RAM_PERCENTAGE  堆占容器内存的百分比（默认 70.0）
+#   PRE_TOUCH_HEAP      设为 true 时在 throughput 下启用 -XX:+AlwaysPreTouch（默认关闭）：
+#                       启动时提交并写入整个堆，消除运行中的缺页开销，但启动和就绪时间随堆大小变长，
+#                       不适合依赖快速扩容的实例
+#   JAVA_OPTS           追加的 JVM 参数（位于 profile 参数之后，可覆盖）
+#   APP_JAR             可执行 jar（默认 /app/application/app.jar，即 jarmode=tools extract 解压后的布局）
+#   CDS_ARCHIVE         AppCDS 归档（默认 /app/application.jsa，由 Dockerfile.prod 的训练启动生成；
+#                       文件存在时自动启用，指向不存在的路径即可禁用）
+#   APP_CLASSPATH       设置时改为以类路径启动主类（压测脚本在本地使用）
+# ===========================================
+set -eu
+
+APP_JAR="${APP_JAR:-/app/application/app.jar}"
+CDS_ARCHIVE="${CDS_ARCHIVE:-/app/application.jsa}"
+MAIN_CLASS="jp.asatex.niuyuping.social_insurance_backend_service.SocialInsuranceBackendServiceApplication"
+MAX_RAM_PERCENTAGE="${MAX_RAM_PERCENTAGE:-70.0}"
+
+COMMON_OPTS="-XX:MaxRAMPercentage=${MAX_RAM_PERCENTAGE} -Djava.security.egd=file:/dev/./urandom -Dspring.jmx.enabled=false"
+if [ -f "$CDS_ARCHIVE" ]; then
+    # 归档与当前 JVM 或类路径不匹配时，JVM 输出警告并照常启动（-Xshare:auto）
+    COMMON_OPTS="$COMMON_OPTS -XX:SharedArchiveFile=${CDS_ARCHIVE}"
+fi
+
+case "${JVM_PROFILE:-throughput}" in
+    throughput)
+        PROFILE_OPTS="-XX:+UseG1GC -XX:InitialRAMPercentage=${MAX_RAM_PERCENTAGE}"
+        if [ "${PRE_TOUCH_HEAP:-false}" = "true" ]; then
+            PROFILE_OPTS="$PROFILE_OPTS -XX:+AlwaysPreTouch"
+        fi
+        ;;
+    fast-startup)
+        PROFILE_OPTS="-XX:TieredStopAtLevel=1 -XX:+UseSerialGC"
+        ;;
+    *)
+        echo "未知的 JVM_PROFILE: ${JVM_PROFILE}（可选 throughput、fast-startup）" >&2
+        exit 1
+        ;;
+esac
+
+# 参数需要按空格拆分，因此不加引号
+# shellcheck disable=SC2086
+if [ -n "${APP_CLASSPATH:-}" ]; then
+    exec java $COMMON_OPTS $PROFILE_OPTS ${JAVA_OPTS:-} -cp "$APP_CLASSPATH" "$MAIN_CLASS" "$@"
+fi
+# shellcheck disable=SC2086
+exec java $COMMON_OPTS $PROFILE_OPTS ${JAVA_OPTS:-} -jar "$APP_JAR" "$@"
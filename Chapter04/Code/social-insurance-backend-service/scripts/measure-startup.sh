@@ -0,0 +1,35 @@
+#!/bin/sh
+# ===========================================
+# 启动时间对比：同一个 Dockerfile.prod 镜像分别在禁用和启用 AppCDS 归档时启动，
+# 读取 Spring Boot 的 "Started ... in N seconds" 日志
+# 用法：scripts/measure-startup.sh [重复次数，默认 5]
+# 不需要数据库：prod profile 的服务实例本身不执行 Flyway（迁移由 migrate profile 执行），
+# 连接不到数据库时索引加载和变更通知订阅只输出警告
+# ===========================================
+set -eu
+
+cd "$(dirname "$0")/.."
+
+RUNS="${1:-5}"
+IMAGE="${IMAGE:-social-insurance-backend-service:startup}"
+
+docker build -q -f Dockerfile.prod -t "$IMAGE" . >/dev/null
+
+for mode in off on; do
+    if [ "$mode" = "off" ]; then
+        archive=/app/none.jsa
+    else
+        archive=/app/application.jsa
+    fi
+    i=1
+    while [ "$i" -le "$RUNS" ]; do
+        container="$(docker run -d -e CDS_ARCHIVE="$archive" "$IMAGE")"
+        until docker logs "$container" 2>&1 | grep -q "Started SocialInsuranceBackendServiceApplication"; do
+            sleep 0.2
+        done
+        started="$(docker logs "$container" 2>&1 | grep -o "Started SocialInsuranceBackendServiceApplication in [0-9.]* seconds" | head -1)"
+        echo "cds=${mode} run=${i}: ${started}"
+        docker rm -f "$container" >/dev/null
+        i=$((i + 1))
+    done
+done
@@ -0,0 +1,110 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jp.asatex.niuyuping.social_insurance_backend_service.config.SocialInsuranceCacheProperties;
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.BracketIndexHolder;
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.PremiumBracketMetrics;
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.PremiumBracketFixtures;
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.SocialInsuranceResultCache;
+import jp.asatex.niuyuping.social_insurance_backend_service.entity.PremiumBracket;
+import jp.asatex.niuyuping.social_insurance_backend_service.repository.PremiumBracketRepository;
+import reactor.core.publisher.Flux;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 基准测试公共数据
+ * 不启动 Spring 容器和数据库，直接用 V1 迁移脚本中的等级表装配服务，
+ * 测得的数值只包含计算与转换本身的开销
+ */
+final class BenchmarkFixtures {
+
+    /**
+     * 每个基准轮换使用的样本数（2 的幂，便于用位与取模）
+     */
+    static final int SAMPLES = 1024;
+
+    /**
+     * 固定随机种子，保证每次运行的样本一致
+     */
+    private static final long SEED = 20250401L;
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 基于内存计量器注册表的指标，计量开销与生产环境的记录路径一致
+     */
+    static PremiumBracketMetrics metrics() {
+        return new PremiumBracketMetrics(new SimpleMeterRegistry());
+    }
+
+    /**
+     * 禁用的结果缓存（基准测量的是索引路径本身）
+     */
+    static SocialInsuranceResultCache disabledResultCache(PremiumBracketMetrics metrics) {
+        return new SocialInsuranceResultCache(new SocialInsuranceCacheProperties(false, 0, null, null), null, metrics);
+    }
+
+    static List<PremiumBracket> brackets() {
+        return PremiumBracketFixtures.kanagawa2025();
+    }
+
+    /**
+     * 构建并加载完成的索引持有者
+     * 仓库只实现 findAllOrderByStdRemAsc，其他方法在基准中不应被调用
+     *
+     * @param brackets 保险费等级列表
+     * @param metrics 指标
+     * @return 已加载索引的持有者
+     */
+    static BracketIndexHolder loadedHolder(List<PremiumBracket> brackets, PremiumBracketMetrics metrics) {
+        PremiumBracketRepository repository = (PremiumBracketRepository) Proxy.newProxyInstance(
+                PremiumBracketRepository.class.getClassLoader(),
+                new Class<?>[]{PremiumBracketRepository.class},
+                (proxy, method, args) -> {
+                    if ("findAllOrderByStdRemAsc".equals(method.getName())) {
+                        return Flux.fromIterable(brackets);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        BracketIndexHolder holder = new BracketIndexHolder(repository, null, metrics,
+                disabledResultCache(metrics));
+        holder.reload().block();
+        return holder;
+    }
+
+    /**
+     * 生成覆盖全部等级的月薪样本（每个样本落在随机等级的随机位置）
+     *
+     * @param brackets 保险费等级列表
+     * @return 月薪样本
+     */
+    static int[] salaries(List<PremiumBracket> brackets) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        int[] salaries = new int[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            PremiumBracket bracket = brackets.get(random.nextInt(brackets.size()));
+            // 最高等级的上限是哨兵值，样本限制在下限之上 100 万日元以内
+            int width = Math.min(bracket.getMaxAmount() - bracket.getMinAmount(), 1_000_000);
+            salaries[i] = bracket.getMinAmount() + random.nextInt(width);
+        }
+        return salaries;
+    }
+
+    /**
+     * 生成年龄样本（20～69 岁均匀分布，约 60% 需要缴纳介护保险）
+     *
+     * @return 年龄样本
+     */
+    static Integer[] ages() {
+        SplittableRandom random = new SplittableRandom(SEED + 1);
+        Integer[] ages = new Integer[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            ages[i] = 20 + random.nextInt(50);
+        }
+        return ages;
+    }
+}
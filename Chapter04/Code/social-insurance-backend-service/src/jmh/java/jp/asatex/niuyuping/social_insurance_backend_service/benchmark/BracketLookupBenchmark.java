@@ -0,0 +1,72 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.benchmark;
+
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.BracketIndex;
+import jp.asatex.niuyuping.social_insurance_backend_service.entity.PremiumBracket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 等级查找策略基准
+ * 对比 BracketIndex 的原始数组二分查找、按实体逐个比较的线性扫描（等价于无索引的
+ * min_amount <= ? AND max_amount > ? 条件扫描）以及 TreeMap.floorEntry
+ */
+@State(Scope.Thread)
+public class BracketLookupBenchmark {
+
+    private BracketIndex index;
+    private List<PremiumBracket> sortedBrackets;
+    private NavigableMap<Integer, PremiumBracket> bracketsByMinAmount;
+    private int[] salaries;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        List<PremiumBracket> brackets = BenchmarkFixtures.brackets();
+        index = BracketIndex.of(brackets);
+        sortedBrackets = brackets.stream()
+                .sorted(Comparator.comparing(PremiumBracket::getMinAmount))
+                .toList();
+        bracketsByMinAmount = new TreeMap<>();
+        for (PremiumBracket bracket : sortedBrackets) {
+            bracketsByMinAmount.put(bracket.getMinAmount(), bracket);
+        }
+        salaries = BenchmarkFixtures.salaries(brackets);
+    }
+
+    private int nextSalary() {
+        cursor = (cursor + 1) & (BenchmarkFixtures.SAMPLES - 1);
+        return salaries[cursor];
+    }
+
+    @Benchmark
+    public PremiumBracket binarySearch() {
+        int position = index.indexOf(nextSalary());
+        return position < 0 ? null : index.bracketAt(position);
+    }
+
+    @Benchmark
+    public PremiumBracket linearScan() {
+        int salary = nextSalary();
+        for (PremiumBracket bracket : sortedBrackets) {
+            if (bracket.getMinAmount() <= salary && bracket.getMaxAmount() > salary) {
+                return bracket;
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public PremiumBracket treeMapFloor() {
+        int salary = nextSalary();
+        Map.Entry<Integer, PremiumBracket> entry = bracketsByMinAmount.floorEntry(salary);
+        return entry != null && entry.getValue().getMaxAmount() > salary ? entry.getValue() : null;
+    }
+}
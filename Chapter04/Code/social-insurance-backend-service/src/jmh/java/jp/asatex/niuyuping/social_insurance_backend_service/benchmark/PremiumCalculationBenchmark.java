@@ -0,0 +1,97 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.benchmark;
+
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.BracketIndex;
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.FixedPointPremiumCalculator;
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.dto.SocialInsuranceDomainDto;
+import jp.asatex.niuyuping.social_insurance_backend_service.entity.PremiumBracket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * 保险费计算基准
+ * 对比 PremiumBracketDomainService.calculateSocialInsurance 的两条路径：
+ * 数据库回退路径（定点整数计算）和索引路径（预计算结果），并以原 BigDecimal 实现作为基线
+ */
+@State(Scope.Thread)
+public class PremiumCalculationBenchmark {
+
+    private static final BigDecimal HALF = new BigDecimal("0.5");
+
+    private PremiumBracket[] brackets;
+    private boolean[] careEligible;
+    private int[] positions;
+    private BracketIndex index;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        List<PremiumBracket> bracketList = BenchmarkFixtures.brackets();
+        index = BracketIndex.of(bracketList);
+        int[] salaries = BenchmarkFixtures.salaries(bracketList);
+        Integer[] ages = BenchmarkFixtures.ages();
+
+        brackets = new PremiumBracket[BenchmarkFixtures.SAMPLES];
+        careEligible = new boolean[BenchmarkFixtures.SAMPLES];
+        positions = new int[BenchmarkFixtures.SAMPLES];
+        for (int i = 0; i < BenchmarkFixtures.SAMPLES; i++) {
+            positions[i] = index.indexOf(salaries[i]);
+            brackets[i] = index.bracketAt(positions[i]);
+            careEligible[i] = FixedPointPremiumCalculator.isCareEligible(ages[i]);
+        }
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (BenchmarkFixtures.SAMPLES - 1);
+        return cursor;
+    }
+
+    @Benchmark
+    public SocialInsuranceDomainDto bigDecimalBaseline() {
+        int i = next();
+        return calculateWithBigDecimal(brackets[i], careEligible[i]);
+    }
+
+    @Benchmark
+    public SocialInsuranceDomainDto fixedPoint() {
+        int i = next();
+        return FixedPointPremiumCalculator.calculate(brackets[i], careEligible[i]);
+    }
+
+    @Benchmark
+    public SocialInsuranceDomainDto fixedPointFromIndex() {
+        int i = next();
+        int position = positions[i];
+        return FixedPointPremiumCalculator.calculate(index.healthNoCareSen(position), index.healthCareSen(position),
+                index.pensionSen(position), careEligible[i]);
+    }
+
+    @Benchmark
+    public SocialInsuranceDomainDto precomputed() {
+        int i = next();
+        return index.resultAt(positions[i], careEligible[i]);
+    }
+
+    /**
+     * 改为定点计算之前的 BigDecimal 实现
+     */
+    private static SocialInsuranceDomainDto calculateWithBigDecimal(PremiumBracket bracket, boolean careEligible) {
+        BigDecimal careCost = careEligible
+                ? bracket.getHealthCare().subtract(bracket.getHealthNoCare())
+                : BigDecimal.ZERO;
+        return new SocialInsuranceDomainDto(
+                new SocialInsuranceDomainDto.EmployeeCost(
+                        bracket.getHealthNoCare().multiply(HALF).setScale(2, RoundingMode.HALF_UP),
+                        careCost.multiply(HALF).setScale(2, RoundingMode.HALF_UP),
+                        bracket.getPension().multiply(HALF).setScale(2, RoundingMode.HALF_UP)),
+                new SocialInsuranceDomainDto.EmployerCost(
+                        bracket.getHealthNoCare().multiply(HALF).setScale(2, RoundingMode.HALF_UP),
+                        careCost.multiply(HALF).setScale(2, RoundingMode.HALF_UP),
+                        bracket.getPension().multiply(HALF).setScale(2, RoundingMode.HALF_UP)));
+    }
+}
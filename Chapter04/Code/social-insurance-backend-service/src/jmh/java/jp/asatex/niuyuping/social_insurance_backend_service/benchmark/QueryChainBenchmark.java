@@ -0,0 +1,84 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.benchmark;
+
+import jp.asatex.niuyuping.social_insurance_backend_service.application.PremiumBracketApplicationService;
+import jp.asatex.niuyuping.social_insurance_backend_service.application.dto.SocialInsuranceApplicationDto;
+import jp.asatex.niuyuping.social_insurance_backend_service.controller.PremiumBracketController;
+import jp.asatex.niuyuping.social_insurance_backend_service.controller.SocialInsuranceJsonEncoder;
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.PremiumBracketDomainService;
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.PremiumBracketMetrics;
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.dto.SocialInsuranceDomainDto;
+import jp.asatex.niuyuping.social_insurance_backend_service.entity.PremiumBracket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.List;
+
+/**
+ * 查询链路基准
+ * 依次测量 Domain、Application、Controller 三层的 socialInsuranceQuery，
+ * 相邻两层的差值即为该层 DTO 转换（及 Controller 写出按等级位置保存的 JSON 字节）的开销
+ */
+@State(Scope.Thread)
+public class QueryChainBenchmark {
+
+    private PremiumBracketDomainService domainService;
+    private PremiumBracketApplicationService applicationService;
+    private PremiumBracketController controller;
+    private ServerWebExchange exchange;
+    private Integer[] salaries;
+    private Integer[] ages;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        List<PremiumBracket> brackets = BenchmarkFixtures.brackets();
+        PremiumBracketMetrics metrics = BenchmarkFixtures.metrics();
+        // 索引已加载，查询不会走到数据库回退路径，结果缓存保持禁用；不指定事业类别，不使用雇用保险费率表
+        domainService = new PremiumBracketDomainService(null, null,
+                BenchmarkFixtures.loadedHolder(brackets, metrics), metrics,
+                BenchmarkFixtures.disabledResultCache(metrics), null);
+        applicationService = new PremiumBracketApplicationService(domainService);
+        controller = new PremiumBracketController(applicationService,
+                new SocialInsuranceJsonEncoder(ServerCodecConfigurer.create()));
+        exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/socialInsuranceQuery")
+                .accept(MediaType.APPLICATION_JSON));
+        // 预先装箱，避免每次调用的 Integer 分配计入 gc.alloc.rate.norm
+        int[] rawSalaries = BenchmarkFixtures.salaries(brackets);
+        salaries = new Integer[rawSalaries.length];
+        for (int i = 0; i < rawSalaries.length; i++) {
+            salaries[i] = rawSalaries[i];
+        }
+        ages = BenchmarkFixtures.ages();
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (BenchmarkFixtures.SAMPLES - 1);
+        return cursor;
+    }
+
+    @Benchmark
+    public SocialInsuranceDomainDto domain() {
+        int i = next();
+        return domainService.socialInsuranceQuery(salaries[i], ages[i]).block();
+    }
+
+    @Benchmark
+    public SocialInsuranceApplicationDto application() {
+        int i = next();
+        return applicationService.socialInsuranceQuery(salaries[i], ages[i]).block();
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> controller() {
+        int i = next();
+        return controller.socialInsuranceQuery(salaries[i], ages[i], null, null, null, exchange).block();
+    }
+}
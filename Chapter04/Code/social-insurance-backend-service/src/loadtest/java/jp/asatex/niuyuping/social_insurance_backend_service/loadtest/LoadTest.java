@@ -0,0 +1,36 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.loadtest;
+
+import jp.asatex.niuyuping.social_insurance_backend_service.SocialInsuranceBackendServiceApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * /socialInsuranceQuery 端到端压测入口（./gradlew loadTest）
+ * 未指定 loadtest.target 时，在本进程内以 embedded profile（H2 代替 PostgreSQL）启动服务，
+ * 不需要 Docker 和网络；负载生成器与服务共用 CPU，比较不同版本时应保持机器和参数一致
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        ConfigurableApplicationContext context = null;
+        String baseUrl = settings.target();
+        if (baseUrl == null) {
+            context = new SpringApplicationBuilder(SocialInsuranceBackendServiceApplication.class)
+                    .profiles("embedded")
+                    .properties("server.port=0", "logging.level.root=WARN")
+                    .run(args);
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        }
+        try (OpenModelLoadGenerator generator = new OpenModelLoadGenerator(baseUrl, settings)) {
+            generator.run();
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 压测参数
+ * 全部通过 loadtest.* 系统属性配置，例如 ./gradlew loadTest -Dloadtest.rates=1000,2000,4000
+ *
+ * @param target         被测服务地址，未指定时在本进程内以 embedded profile 启动服务
+ * @param rates          依次施加的目标到达率（请求/秒）
+ * @param warmup         预热时长（以第一个到达率发送，不计入结果）
+ * @param stepDuration   每个到达率的持续时长
+ * @param timeout        单个请求超时时间，超时计为错误
+ * @param sloP99         判定可持续的 p99 延迟上限
+ * @param maxConnections 客户端连接池上限
+ */
+public record LoadTestSettings(String target, int[] rates, Duration warmup, Duration stepDuration,
+                               Duration timeout, Duration sloP99, int maxConnections) {
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                System.getProperty("loadtest.target"),
+                Arrays.stream(System.getProperty("loadtest.rates", "500,1000,2000,4000,8000,16000").split(","))
+                        .map(String::strip)
+                        .mapToInt(Integer::parseInt)
+                        .toArray(),
+                Duration.ofSeconds(Long.getLong("loadtest.warmupSeconds", 10)),
+                Duration.ofSeconds(Long.getLong("loadtest.stepSeconds", 15)),
+                Duration.ofMillis(Long.getLong("loadtest.timeoutMillis", 5000)),
+                Duration.ofMillis(Long.getLong("loadtest.sloP99Millis", 50)),
+                Integer.getInteger("loadtest.maxConnections", 512));
+    }
+}
@@ -0,0 +1,171 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 开放模型负载生成器
+ * 按固定到达率发送请求，发送时刻只取决于计划而不等待前一个响应；
+ * 延迟从计划发送时刻开始计算，服务端变慢导致的排队时间会完整计入（避免协调遗漏）
+ */
+public class OpenModelLoadGenerator implements AutoCloseable {
+
+    /**
+     * 预生成的请求数（2 的幂，便于用位与取模）
+     */
+    private static final int REQUEST_SAMPLES = 4096;
+
+    /**
+     * 可持续判定：错误率上限
+     */
+    private static final double MAX_ERROR_RATIO = 0.001;
+
+    /**
+     * 可持续判定：实际吞吐量不得低于目标到达率的比例
+     */
+    private static final double MIN_THROUGHPUT_RATIO = 0.95;
+
+    private final LoadTestSettings settings;
+    private final ConnectionProvider connectionProvider;
+    private final WebClient webClient;
+    private final URI[] requests;
+
+    public OpenModelLoadGenerator(String baseUrl, LoadTestSettings settings) {
+        this.settings = settings;
+        this.connectionProvider = ConnectionProvider.builder("loadtest")
+                .maxConnections(settings.maxConnections())
+                .pendingAcquireMaxCount(-1)
+                .build();
+        this.webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+                .build();
+        this.requests = sampleRequests(baseUrl);
+    }
+
+    /**
+     * 预热后依次执行各到达率，出现第一个不可持续的到达率时停止
+     */
+    public void run() {
+        System.out.printf("预热 %d 秒（%d req/s）%n", settings.warmup().toSeconds(), settings.rates()[0]);
+        runStep(settings.rates()[0], settings.warmup());
+
+        System.out.printf("%n%10s %10s %10s %10s %10s %10s %8s %6s%n",
+                "目标req/s", "实际req/s", "p50(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "错误", "可持续");
+        int maxSustainable = 0;
+        for (int rate : settings.rates()) {
+            StepResult result = runStep(rate, settings.stepDuration());
+            boolean sustainable = result.isSustainable(settings.sloP99());
+            System.out.printf("%10d %10.0f %10.2f %10.2f %10.2f %10.2f %8d %6s%n",
+                    rate, result.throughput(),
+                    millis(result.latency().getValueAtPercentile(50)),
+                    millis(result.latency().getValueAtPercentile(99)),
+                    millis(result.latency().getValueAtPercentile(99.9)),
+                    millis(result.latency().getMaxValue()),
+                    result.errors(), sustainable ? "是" : "否");
+            if (!sustainable) {
+                break;
+            }
+            maxSustainable = rate;
+        }
+        System.out.printf("%n最大可持续到达率: %d req/s（p99 <= %d ms，错误率 <= %.1f%%，吞吐量 >= 目标的 %.0f%%）%n",
+                maxSustainable, settings.sloP99().toMillis(), MAX_ERROR_RATIO * 100, MIN_THROUGHPUT_RATIO * 100);
+    }
+
+    /**
+     * 以指定到达率持续发送请求，并等待全部响应完成或超时
+     *
+     * @param rate 到达率（请求/秒）
+     * @param duration 持续时长
+     * @return 本阶段的统计结果
+     */
+    StepResult runStep(int rate, Duration duration) {
+        long total = rate * duration.toSeconds();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        Histogram latency = new ConcurrentHistogram(TimeUnit.MINUTES.toNanos(1), 3);
+        AtomicLong errors = new AtomicLong();
+        CountDownLatch completed = new CountDownLatch(Math.toIntExact(total));
+
+        long start = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long intended = start + i * intervalNanos;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            webClient.get()
+                    .uri(requests[(int) (i & (REQUEST_SAMPLES - 1))])
+                    .retrieve()
+                    .toBodilessEntity()
+                    .timeout(settings.timeout())
+                    .subscribe(
+                            response -> latency.recordValue(Math.min(System.nanoTime() - intended,
+                                    latency.getHighestTrackableValue())),
+                            error -> {
+                                errors.incrementAndGet();
+                                completed.countDown();
+                            },
+                            completed::countDown);
+        }
+        try {
+            completed.await(settings.timeout().toMillis() * 2, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        long elapsed = System.nanoTime() - start;
+        long succeeded = latency.getTotalCount();
+        // 超过等待时间仍未完成的请求计为错误
+        long failed = total - succeeded;
+        return new StepResult(rate, total, failed,
+                succeeded * (double) TimeUnit.SECONDS.toNanos(1) / elapsed, latency);
+    }
+
+    private static URI[] sampleRequests(String baseUrl) {
+        SplittableRandom random = new SplittableRandom(20250401L);
+        URI[] uris = new URI[REQUEST_SAMPLES];
+        for (int i = 0; i < REQUEST_SAMPLES; i++) {
+            int monthlySalary = random.nextInt(1_500_000);
+            int age = 20 + random.nextInt(50);
+            uris[i] = URI.create(baseUrl + "/socialInsuranceQuery?monthlySalary=" + monthlySalary + "&age=" + age);
+        }
+        return uris;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    @Override
+    public void close() {
+        connectionProvider.dispose();
+    }
+
+    /**
+     * 单个到达率阶段的统计结果
+     *
+     * @param rate       目标到达率
+     * @param sent       发送的请求数
+     * @param errors     失败或未完成的请求数
+     * @param throughput 实际成功吞吐量（请求/秒）
+     * @param latency    成功请求的延迟分布（纳秒）
+     */
+    record StepResult(int rate, long sent, long errors, double throughput, Histogram latency) {
+
+        boolean isSustainable(Duration sloP99) {
+            return errors <= sent * MAX_ERROR_RATIO
+                    && throughput >= rate * MIN_THROUGHPUT_RATIO
+                    && latency.getValueAtPercentile(99) <= sloP99.toNanos();
+        }
+    }
+}
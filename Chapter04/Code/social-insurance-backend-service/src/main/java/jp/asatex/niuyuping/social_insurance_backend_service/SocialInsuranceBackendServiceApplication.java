@@ -2,8 +2,10 @@ package jp.asatex.niuyuping.social_insurance_backend_service;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class SocialInsuranceBackendServiceApplication {
 
 	public static void main(String[] args) {
@@ -1,11 +1,22 @@
 package jp.asatex.niuyuping.social_insurance_backend_service.application;
 
+import jp.asatex.niuyuping.social_insurance_backend_service.application.dto.RateTableImportApplicationDto;
 import jp.asatex.niuyuping.social_insurance_backend_service.application.dto.SocialInsuranceApplicationDto;
+import jp.asatex.niuyuping.social_insurance_backend_service.application.dto.SocialInsuranceBatchApplicationDto;
+import jp.asatex.niuyuping.social_insurance_backend_service.application.dto.SocialInsuranceCurvePointApplicationDto;
 import jp.asatex.niuyuping.social_insurance_backend_service.domain.PremiumBracketDomainService;
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.dto.SocialInsuranceBatchDomainDto;
 import jp.asatex.niuyuping.social_insurance_backend_service.domain.dto.SocialInsuranceDomainDto;
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.dto.SocialInsuranceQueryDomainDto;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
 /**
  * 保险费等级 Application Service
  * 提供应用层服务，调用 Domain 层进行业务处理
@@ -20,50 +31,145 @@ public class PremiumBracketApplicationService {
         this.premiumBracketDomainService = premiumBracketDomainService;
     }
 
+    /**
+     * 查询社会保险金额（默认都道府县，当天适用的等级表）
+     *
+     * @param monthlySalary 月薪
+     * @param age 年龄
+     * @return Mono<SocialInsuranceApplicationDto> 社会保险金额 Application DTO
+     */
+    public Mono<SocialInsuranceApplicationDto> socialInsuranceQuery(Integer monthlySalary, Integer age) {
+        return socialInsuranceQuery(monthlySalary, age, null, null);
+    }
+
     /**
      * 查询社会保险金额
      * 调用 Domain 层的同名方法获取数据，并转换为 Application DTO
      *
      * @param monthlySalary 月薪
      * @param age 年龄
+     * @param prefecture 都道府县（为 null 时使用默认都道府县）
+     * @param asOf 基准日（为 null 时使用当天）
      * @return Mono<SocialInsuranceApplicationDto> 社会保险金额 Application DTO
      */
-    public Mono<SocialInsuranceApplicationDto> socialInsuranceQuery(Integer monthlySalary, Integer age) {
-        return premiumBracketDomainService.socialInsuranceQuery(monthlySalary, age)
+    public Mono<SocialInsuranceApplicationDto> socialInsuranceQuery(Integer monthlySalary, Integer age,
+                                                                    String prefecture, LocalDate asOf) {
+        return socialInsuranceQuery(monthlySalary, age, prefecture, asOf, null);
+    }
+
+    /**
+     * 查询社会保险金额（可选附加雇用保险费）
+     * 调用 Domain 层的同名方法获取数据，并转换为 Application DTO
+     *
+     * @param monthlySalary 月薪
+     * @param age 年龄
+     * @param prefecture 都道府县（为 null 时使用默认都道府县）
+     * @param asOf 基准日（为 null 时使用当天）
+     * @param industry 雇用保险的事业类别（为 null 时不计算雇用保险）
+     * @return Mono<SocialInsuranceApplicationDto> 社会保险金额 Application DTO
+     */
+    public Mono<SocialInsuranceApplicationDto> socialInsuranceQuery(Integer monthlySalary, Integer age,
+                                                                    String prefecture, LocalDate asOf,
+                                                                    String industry) {
+        return premiumBracketDomainService.socialInsuranceQuery(monthlySalary, age, prefecture, asOf, industry)
                 .map(this::convertToApplicationDto);
     }
 
+    /**
+     * 查询社会保险金额并返回其编码形式（不含雇用保险费）
+     * 编码方式作用于 Application DTO；结果来自内存索引时，Domain 层按等级位置复用编码结果
+     *
+     * @param monthlySalary 月薪
+     * @param age 年龄
+     * @param prefecture 都道府县（为 null 时使用默认都道府县）
+     * @param asOf 基准日（为 null 时使用当天）
+     * @param encoder 编码方式
+     * @return Mono<byte[]> 编码后的社会保险金额（共享数组，不得修改）
+     */
+    public Mono<byte[]> encodedSocialInsuranceQuery(Integer monthlySalary, Integer age, String prefecture,
+                                                    LocalDate asOf,
+                                                    Function<SocialInsuranceApplicationDto, byte[]> encoder) {
+        return premiumBracketDomainService.encodedSocialInsuranceQuery(monthlySalary, age, prefecture, asOf,
+                domainDto -> encoder.apply(convertToApplicationDto(domainDto)));
+    }
+
+    /**
+     * 批量查询社会保险金额
+     * 调用 Domain 层的同名方法获取数据，并转换为 Application DTO
+     *
+     * @param queries 查询条件列表
+     * @return Mono<List<SocialInsuranceBatchApplicationDto>> 与查询条件顺序一致的结果列表
+     */
+    public Mono<List<SocialInsuranceBatchApplicationDto>> socialInsuranceBatchQuery(
+            List<SocialInsuranceQueryDomainDto> queries) {
+        return premiumBracketDomainService.socialInsuranceBatchQuery(queries)
+                .map(domainResults -> {
+                    List<SocialInsuranceBatchApplicationDto> results = new ArrayList<>(domainResults.size());
+                    for (SocialInsuranceBatchDomainDto domainResult : domainResults) {
+                        results.add(SocialInsuranceBatchApplicationDto.of(domainResult));
+                    }
+                    return results;
+                });
+    }
+
+    /**
+     * 流式批量查询社会保险金额
+     * 调用 Domain 层的同名方法获取数据，并逐条转换为 Application DTO
+     *
+     * @param queries 查询条件流
+     * @return Flux<SocialInsuranceBatchApplicationDto> 与查询条件顺序一致的结果流
+     */
+    public Flux<SocialInsuranceBatchApplicationDto> socialInsuranceStreamQuery(
+            Flux<SocialInsuranceQueryDomainDto> queries) {
+        return premiumBracketDomainService.socialInsuranceStreamQuery(queries)
+                .map(SocialInsuranceBatchApplicationDto::of);
+    }
+
+    /**
+     * 查询保险费曲线
+     * 调用 Domain 层的同名方法获取数据，并逐点转换为 Application DTO
+     *
+     * @param fromSalary 起始月薪（含）
+     * @param toSalary 结束月薪（含）
+     * @param step 步长
+     * @param age 年龄
+     * @param prefecture 都道府县（为 null 时使用默认都道府县）
+     * @param asOf 基准日（为 null 时使用当天）
+     * @return Flux<SocialInsuranceCurvePointApplicationDto> 按月薪升序的曲线点
+     */
+    public Flux<SocialInsuranceCurvePointApplicationDto> socialInsuranceCurve(int fromSalary, int toSalary, int step,
+                                                                             Integer age, String prefecture,
+                                                                             LocalDate asOf) {
+        return premiumBracketDomainService.socialInsuranceCurve(fromSalary, toSalary, step, age, prefecture, asOf)
+                .map(SocialInsuranceCurvePointApplicationDto::of);
+    }
+
+    /**
+     * 批量导入等级表
+     * 逐行解析 CSV（格式见 PremiumBracketCsvParser），全部解析成功后交由 Domain 层在单个事务中写入
+     *
+     * @param csvLines CSV 行流
+     * @return Mono<RateTableImportApplicationDto> 导入结果 Application DTO
+     */
+    public Mono<RateTableImportApplicationDto> importRateTables(Flux<String> csvLines) {
+        return csvLines.index()
+                .filter(line -> !PremiumBracketCsvParser.isSkippable(line.getT2()))
+                .map(line -> PremiumBracketCsvParser.parse(line.getT1() + 1, line.getT2()))
+                .take(PremiumBracketCsvParser.MAX_ROWS + 1L)
+                .collectList()
+                .map(PremiumBracketCsvParser::requireWithinLimit)
+                .flatMap(premiumBracketDomainService::importRateTables)
+                .map(RateTableImportApplicationDto::of);
+    }
+
     /**
      * 将 Domain DTO 转换为 Application DTO
-     * 采用流式编程风格进行数据转换
+     * 两者均为不可变记录，Application DTO 直接引用 Domain DTO 的费用结构体，不复制金额
      *
      * @param domainDto Domain DTO
      * @return Application DTO
      */
     private SocialInsuranceApplicationDto convertToApplicationDto(SocialInsuranceDomainDto domainDto) {
-        // 转换雇员费用结构体
-        SocialInsuranceDomainDto.EmployeeCost domainEmployeeCost = domainDto.getEmployeeCost();
-        SocialInsuranceApplicationDto.EmployeeCost applicationEmployeeCost = 
-                SocialInsuranceApplicationDto.EmployeeCost.builder()
-                        .healthCostWithNoCare(domainEmployeeCost.getHealthCostWithNoCare())
-                        .careCost(domainEmployeeCost.getCareCost())
-                        .pension(domainEmployeeCost.getPension())
-                        .build();
-
-        // 转换雇主费用结构体
-        SocialInsuranceDomainDto.EmployerCost domainEmployerCost = domainDto.getEmployerCost();
-        SocialInsuranceApplicationDto.EmployerCost applicationEmployerCost = 
-                SocialInsuranceApplicationDto.EmployerCost.builder()
-                        .healthCostWithNoCare(domainEmployerCost.getHealthCostWithNoCare())
-                        .careCost(domainEmployerCost.getCareCost())
-                        .pension(domainEmployerCost.getPension())
-                        .build();
-
-        // 构建应用层 DTO
-        return SocialInsuranceApplicationDto.builder()
-                .employeeCost(applicationEmployeeCost)
-                .employerCost(applicationEmployerCost)
-                .build();
+        return SocialInsuranceApplicationDto.of(domainDto);
     }
 }
-
@@ -0,0 +1,102 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.application;
+
+import jp.asatex.niuyuping.social_insurance_backend_service.entity.PremiumBracket;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * 保险费等级 CSV 解析器
+ * 每行一个等级，列顺序固定为：
+ * prefecture,valid_from,valid_to,grade,std_rem,min_amount,max_amount,health_no_care,health_care,pension
+ * valid_to 可以为空（表示无失效日）；以 prefecture 开头的表头行和空行会被跳过。
+ * 单行长度和单次导入的行数有上限，超出时按格式错误处理
+ */
+final class PremiumBracketCsvParser {
+
+    private static final int COLUMN_COUNT = 10;
+
+    /**
+     * 单行的最大字符数（10 列的正常数据不超过 150 个字符）
+     */
+    static final int MAX_LINE_LENGTH = 512;
+
+    /**
+     * 单次导入的最大等级行数（47 个都道府县 × 约 50 个等级，可同时导入多个版本）
+     */
+    static final int MAX_ROWS = 20_000;
+
+    private PremiumBracketCsvParser() {
+    }
+
+    /**
+     * 判断是否为需要跳过的行（空行或表头行）
+     *
+     * @param line CSV 行
+     * @return 是否跳过
+     */
+    static boolean isSkippable(String line) {
+        String trimmed = line.strip();
+        return trimmed.isEmpty() || trimmed.startsWith("prefecture,");
+    }
+
+    /**
+     * 解析一行 CSV
+     *
+     * @param lineNumber 行号（从 1 开始，用于错误消息）
+     * @param line CSV 行
+     * @return 保险费等级实体（未设置 ID 和时间戳）
+     * @throws IllegalArgumentException 列数或格式不正确时
+     */
+    static PremiumBracket parse(long lineNumber, String line) {
+        if (line.length() > MAX_LINE_LENGTH) {
+            throw new IllegalArgumentException("CSV 第 " + lineNumber + " 行超过 " + MAX_LINE_LENGTH + " 个字符");
+        }
+        String[] columns = line.split(",", -1);
+        if (columns.length != COLUMN_COUNT) {
+            throw new IllegalArgumentException(
+                    "CSV 第 " + lineNumber + " 行应有 " + COLUMN_COUNT + " 列，实际为 " + columns.length + " 列");
+        }
+        try {
+            return PremiumBracket.builder()
+                    .prefecture(required(columns[0], "prefecture", lineNumber))
+                    .validFrom(LocalDate.parse(required(columns[1], "valid_from", lineNumber)))
+                    .validTo(columns[2].isBlank() ? null : LocalDate.parse(columns[2].strip()))
+                    .grade(required(columns[3], "grade", lineNumber))
+                    .stdRem(Integer.valueOf(columns[4].strip()))
+                    .minAmount(Integer.valueOf(columns[5].strip()))
+                    .maxAmount(Integer.valueOf(columns[6].strip()))
+                    .healthNoCare(new BigDecimal(columns[7].strip()))
+                    .healthCare(new BigDecimal(columns[8].strip()))
+                    .pension(new BigDecimal(columns[9].strip()))
+                    .build();
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("CSV 第 " + lineNumber + " 行格式不正确: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 检查导入行数不超过上限
+     * 调用方最多读取 MAX_ROWS + 1 行，超出的部分不会被缓冲
+     *
+     * @param brackets 已解析的保险费等级
+     * @return 原列表
+     * @throws IllegalArgumentException 行数超过上限时
+     */
+    static List<PremiumBracket> requireWithinLimit(List<PremiumBracket> brackets) {
+        if (brackets.size() > MAX_ROWS) {
+            throw new IllegalArgumentException("CSV 等级行数超过上限 " + MAX_ROWS);
+        }
+        return brackets;
+    }
+
+    private static String required(String value, String column, long lineNumber) {
+        String trimmed = value.strip();
+        if (trimmed.isEmpty()) {
+            throw new IllegalArgumentException("CSV 第 " + lineNumber + " 行的 " + column + " 不能为空");
+        }
+        return trimmed;
+    }
+}
@@ -0,0 +1,22 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.application.dto;
+
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.dto.RateTableImportDomainDto;
+
+/**
+ * 等级表批量导入结果 Application DTO
+ *
+ * @param tableCount 导入的等级表数量（都道府县 × 生效日）
+ * @param bracketCount 导入的等级总数
+ */
+public record RateTableImportApplicationDto(int tableCount, long bracketCount) {
+
+    /**
+     * 由 Domain DTO 创建
+     *
+     * @param domainDto Domain DTO
+     * @return Application DTO
+     */
+    public static RateTableImportApplicationDto of(RateTableImportDomainDto domainDto) {
+        return new RateTableImportApplicationDto(domainDto.tableCount(), domainDto.bracketCount());
+    }
+}
@@ -1,331 +1,27 @@
 package jp.asatex.niuyuping.social_insurance_backend_service.application.dto;
 
-import java.math.BigDecimal;
-import java.util.Objects;
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.dto.SocialInsuranceDomainDto;
 
 /**
  * 社会保险金额查询结果 Application DTO
+ * 不可变记录，作为 Domain DTO 的零拷贝视图：直接引用 Domain 层不可变的费用结构体，不复制金额
+ *
+ * @param employeeCost 雇员承担的费用
+ * @param employerCost 雇主承担的费用
+ * @param employmentInsurance 雇用保险费（未指定事业类别时为 null）
  */
-public class SocialInsuranceApplicationDto {
+public record SocialInsuranceApplicationDto(SocialInsuranceDomainDto.EmployeeCost employeeCost,
+                                            SocialInsuranceDomainDto.EmployerCost employerCost,
+                                            SocialInsuranceDomainDto.EmploymentInsuranceCost employmentInsurance) {
 
     /**
-     * 雇员承担的费用
+     * 由 Domain DTO 创建视图
+     *
+     * @param domainDto Domain DTO
+     * @return Application DTO
      */
-    private EmployeeCost employeeCost;
-
-    /**
-     * 雇主承担的费用
-     */
-    private EmployerCost employerCost;
-
-    // 默认构造函数
-    public SocialInsuranceApplicationDto() {
-    }
-
-    // 全参构造函数
-    public SocialInsuranceApplicationDto(EmployeeCost employeeCost, EmployerCost employerCost) {
-        this.employeeCost = employeeCost;
-        this.employerCost = employerCost;
-    }
-
-    // Getter 和 Setter 方法（流式风格）
-    public EmployeeCost getEmployeeCost() {
-        return employeeCost;
-    }
-
-    public SocialInsuranceApplicationDto setEmployeeCost(EmployeeCost employeeCost) {
-        this.employeeCost = employeeCost;
-        return this;
-    }
-
-    public EmployerCost getEmployerCost() {
-        return employerCost;
-    }
-
-    public SocialInsuranceApplicationDto setEmployerCost(EmployerCost employerCost) {
-        this.employerCost = employerCost;
-        return this;
-    }
-
-    // 流式编程风格的 with 方法，返回新实例
-    public SocialInsuranceApplicationDto withEmployeeCost(EmployeeCost employeeCost) {
-        return new SocialInsuranceApplicationDto(employeeCost, this.employerCost);
-    }
-
-    public SocialInsuranceApplicationDto withEmployerCost(EmployerCost employerCost) {
-        return new SocialInsuranceApplicationDto(this.employeeCost, employerCost);
-    }
-
-    // 流式编程风格的 builder 方法
-    public static SocialInsuranceApplicationDtoBuilder builder() {
-        return new SocialInsuranceApplicationDtoBuilder();
-    }
-
-    public static class SocialInsuranceApplicationDtoBuilder {
-        private EmployeeCost employeeCost;
-        private EmployerCost employerCost;
-
-        public SocialInsuranceApplicationDtoBuilder employeeCost(EmployeeCost employeeCost) {
-            this.employeeCost = employeeCost;
-            return this;
-        }
-
-        public SocialInsuranceApplicationDtoBuilder employerCost(EmployerCost employerCost) {
-            this.employerCost = employerCost;
-            return this;
-        }
-
-        public SocialInsuranceApplicationDto build() {
-            return new SocialInsuranceApplicationDto(employeeCost, employerCost);
-        }
-    }
-
-    /**
-     * 雇员承担的费用结构体
-     */
-    public static class EmployeeCost {
-        /**
-         * 无介护健康保险金额
-         */
-        private BigDecimal healthCostWithNoCare;
-
-        /**
-         * 介护保险金额
-         */
-        private BigDecimal careCost;
-
-        /**
-         * 厚生年金金额
-         */
-        private BigDecimal pension;
-
-        // 默认构造函数
-        public EmployeeCost() {
-        }
-
-        // 全参构造函数
-        public EmployeeCost(BigDecimal healthCostWithNoCare, BigDecimal careCost, BigDecimal pension) {
-            this.healthCostWithNoCare = healthCostWithNoCare;
-            this.careCost = careCost;
-            this.pension = pension;
-        }
-
-        // Getter 和 Setter 方法（流式风格）
-        public BigDecimal getHealthCostWithNoCare() {
-            return healthCostWithNoCare;
-        }
-
-        public EmployeeCost setHealthCostWithNoCare(BigDecimal healthCostWithNoCare) {
-            this.healthCostWithNoCare = healthCostWithNoCare;
-            return this;
-        }
-
-        public BigDecimal getCareCost() {
-            return careCost;
-        }
-
-        public EmployeeCost setCareCost(BigDecimal careCost) {
-            this.careCost = careCost;
-            return this;
-        }
-
-        public BigDecimal getPension() {
-            return pension;
-        }
-
-        public EmployeeCost setPension(BigDecimal pension) {
-            this.pension = pension;
-            return this;
-        }
-
-        // 流式编程风格的 builder 方法
-        public static EmployeeCostBuilder builder() {
-            return new EmployeeCostBuilder();
-        }
-
-        public static class EmployeeCostBuilder {
-            private BigDecimal healthCostWithNoCare;
-            private BigDecimal careCost;
-            private BigDecimal pension;
-
-            public EmployeeCostBuilder healthCostWithNoCare(BigDecimal healthCostWithNoCare) {
-                this.healthCostWithNoCare = healthCostWithNoCare;
-                return this;
-            }
-
-            public EmployeeCostBuilder careCost(BigDecimal careCost) {
-                this.careCost = careCost;
-                return this;
-            }
-
-            public EmployeeCostBuilder pension(BigDecimal pension) {
-                this.pension = pension;
-                return this;
-            }
-
-            public EmployeeCost build() {
-                return new EmployeeCost(healthCostWithNoCare, careCost, pension);
-            }
-        }
-
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (o == null || getClass() != o.getClass()) return false;
-            EmployeeCost that = (EmployeeCost) o;
-            return Objects.equals(healthCostWithNoCare, that.healthCostWithNoCare) &&
-                    Objects.equals(careCost, that.careCost) &&
-                    Objects.equals(pension, that.pension);
-        }
-
-        @Override
-        public int hashCode() {
-            return Objects.hash(healthCostWithNoCare, careCost, pension);
-        }
-
-        @Override
-        public String toString() {
-            return "EmployeeCost{" +
-                    "healthCostWithNoCare=" + healthCostWithNoCare +
-                    ", careCost=" + careCost +
-                    ", pension=" + pension +
-                    '}';
-        }
-    }
-
-    /**
-     * 雇主承担的费用结构体
-     */
-    public static class EmployerCost {
-        /**
-         * 无介护健康保险金额
-         */
-        private BigDecimal healthCostWithNoCare;
-
-        /**
-         * 介护保险金额
-         */
-        private BigDecimal careCost;
-
-        /**
-         * 厚生年金金额
-         */
-        private BigDecimal pension;
-
-        // 默认构造函数
-        public EmployerCost() {
-        }
-
-        // 全参构造函数
-        public EmployerCost(BigDecimal healthCostWithNoCare, BigDecimal careCost, BigDecimal pension) {
-            this.healthCostWithNoCare = healthCostWithNoCare;
-            this.careCost = careCost;
-            this.pension = pension;
-        }
-
-        // Getter 和 Setter 方法（流式风格）
-        public BigDecimal getHealthCostWithNoCare() {
-            return healthCostWithNoCare;
-        }
-
-        public EmployerCost setHealthCostWithNoCare(BigDecimal healthCostWithNoCare) {
-            this.healthCostWithNoCare = healthCostWithNoCare;
-            return this;
-        }
-
-        public BigDecimal getCareCost() {
-            return careCost;
-        }
-
-        public EmployerCost setCareCost(BigDecimal careCost) {
-            this.careCost = careCost;
-            return this;
-        }
-
-        public BigDecimal getPension() {
-            return pension;
-        }
-
-        public EmployerCost setPension(BigDecimal pension) {
-            this.pension = pension;
-            return this;
-        }
-
-        // 流式编程风格的 builder 方法
-        public static EmployerCostBuilder builder() {
-            return new EmployerCostBuilder();
-        }
-
-        public static class EmployerCostBuilder {
-            private BigDecimal healthCostWithNoCare;
-            private BigDecimal careCost;
-            private BigDecimal pension;
-
-            public EmployerCostBuilder healthCostWithNoCare(BigDecimal healthCostWithNoCare) {
-                this.healthCostWithNoCare = healthCostWithNoCare;
-                return this;
-            }
-
-            public EmployerCostBuilder careCost(BigDecimal careCost) {
-                this.careCost = careCost;
-                return this;
-            }
-
-            public EmployerCostBuilder pension(BigDecimal pension) {
-                this.pension = pension;
-                return this;
-            }
-
-            public EmployerCost build() {
-                return new EmployerCost(healthCostWithNoCare, careCost, pension);
-            }
-        }
-
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (o == null || getClass() != o.getClass()) return false;
-            EmployerCost that = (EmployerCost) o;
-            return Objects.equals(healthCostWithNoCare, that.healthCostWithNoCare) &&
-                    Objects.equals(careCost, that.careCost) &&
-                    Objects.equals(pension, that.pension);
-        }
-
-        @Override
-        public int hashCode() {
-            return Objects.hash(healthCostWithNoCare, careCost, pension);
-        }
-
-        @Override
-        public String toString() {
-            return "EmployerCost{" +
-                    "healthCostWithNoCare=" + healthCostWithNoCare +
-                    ", careCost=" + careCost +
-                    ", pension=" + pension +
-                    '}';
-        }
-    }
-
-    @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        SocialInsuranceApplicationDto that = (SocialInsuranceApplicationDto) o;
-        return Objects.equals(employeeCost, that.employeeCost) &&
-                Objects.equals(employerCost, that.employerCost);
-    }
-
-    @Override
-    public int hashCode() {
-        return Objects.hash(employeeCost, employerCost);
-    }
-
-    @Override
-    public String toString() {
-        return "SocialInsuranceApplicationDto{" +
-                "employeeCost=" + employeeCost +
-                ", employerCost=" + employerCost +
-                '}';
+    public static SocialInsuranceApplicationDto of(SocialInsuranceDomainDto domainDto) {
+        return new SocialInsuranceApplicationDto(domainDto.employeeCost(), domainDto.employerCost(),
+                domainDto.employmentInsurance());
     }
 }
-
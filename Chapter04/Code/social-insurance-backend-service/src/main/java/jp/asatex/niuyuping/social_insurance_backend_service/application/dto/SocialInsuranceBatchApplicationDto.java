@@ -0,0 +1,26 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.application.dto;
+
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.dto.SocialInsuranceBatchDomainDto;
+
+/**
+ * 社会保险金额批量查询的单条结果 Application DTO
+ *
+ * @param employeeId 员工ID
+ * @param result 社会保险金额（查询失败时为 null）
+ * @param error 错误消息（查询成功时为 null）
+ */
+public record SocialInsuranceBatchApplicationDto(String employeeId, SocialInsuranceApplicationDto result,
+                                                 String error) {
+
+    /**
+     * 由 Domain DTO 创建
+     *
+     * @param domainDto Domain DTO
+     * @return Application DTO
+     */
+    public static SocialInsuranceBatchApplicationDto of(SocialInsuranceBatchDomainDto domainDto) {
+        return new SocialInsuranceBatchApplicationDto(domainDto.employeeId(),
+                domainDto.result() != null ? SocialInsuranceApplicationDto.of(domainDto.result()) : null,
+                domainDto.error());
+    }
+}
@@ -0,0 +1,26 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.application.dto;
+
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.dto.SocialInsuranceCurvePointDomainDto;
+
+/**
+ * 保险费曲线上的单个点 Application DTO
+ *
+ * @param monthlySalary 月薪
+ * @param result 社会保险金额（没有对应等级时为 null）
+ * @param error 错误消息（有对应等级时为 null）
+ */
+public record SocialInsuranceCurvePointApplicationDto(int monthlySalary, SocialInsuranceApplicationDto result,
+                                                      String error) {
+
+    /**
+     * 由 Domain DTO 创建
+     *
+     * @param domainDto Domain DTO
+     * @return Application DTO
+     */
+    public static SocialInsuranceCurvePointApplicationDto of(SocialInsuranceCurvePointDomainDto domainDto) {
+        return new SocialInsuranceCurvePointApplicationDto(domainDto.monthlySalary(),
+                domainDto.result() != null ? SocialInsuranceApplicationDto.of(domainDto.result()) : null,
+                domainDto.error());
+    }
+}
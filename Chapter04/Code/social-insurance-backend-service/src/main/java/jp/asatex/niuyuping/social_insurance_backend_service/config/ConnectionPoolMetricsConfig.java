@@ -0,0 +1,105 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.spi.Closeable;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Wrapped;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.function.SingletonSupplier;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * R2DBC 连接池指标配置
+ * 连接池的 acquired、pending、idle 等计量器由 Spring Boot 自动注册（r2dbc.pool.*），
+ * 这里补充获取连接的耗时 r2dbc.pool.acquire：连接池耗尽时请求在此排队，是比 CPU 更早出现的饱和信号
+ */
+@Configuration(proxyBeanMethods = false)
+public class ConnectionPoolMetricsConfig {
+
+    @Bean
+    static BeanPostProcessor connectionAcquireMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof ConnectionFactory connectionFactory && !(bean instanceof TimedConnectionFactory)) {
+                    return new TimedConnectionFactory(connectionFactory, SingletonSupplier.of(() ->
+                            Timer.builder("r2dbc.pool.acquire")
+                                    .description("从连接池获取连接的耗时")
+                                    .tag("name", beanName)
+                                    .register(meterRegistry.getObject())));
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * 记录 create()（连接池中即获取连接）耗时的 ConnectionFactory 包装
+     * 实现 Wrapped，Spring Boot 的连接池指标和 LISTEN/NOTIFY 订阅仍可取得底层连接池和驱动
+     */
+    static final class TimedConnectionFactory implements ConnectionFactory, Wrapped<ConnectionFactory>,
+            Closeable, Disposable {
+
+        private final ConnectionFactory delegate;
+        private final Supplier<Timer> acquireTimer;
+
+        TimedConnectionFactory(ConnectionFactory delegate, Supplier<Timer> acquireTimer) {
+            this.delegate = delegate;
+            this.acquireTimer = acquireTimer;
+        }
+
+        @Override
+        public Publisher<? extends Connection> create() {
+            return Mono.defer(() -> {
+                long start = System.nanoTime();
+                return Mono.<Connection>from(delegate.create())
+                        .doOnSuccess(connection -> record(start))
+                        .doOnError(error -> record(start));
+            });
+        }
+
+        private void record(long startNanos) {
+            acquireTimer.get().record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public ConnectionFactoryMetadata getMetadata() {
+            return delegate.getMetadata();
+        }
+
+        @Override
+        public ConnectionFactory unwrap() {
+            return delegate;
+        }
+
+        @Override
+        public Publisher<Void> close() {
+            return delegate instanceof Closeable closeable ? closeable.close() : Mono.empty();
+        }
+
+        @Override
+        public void dispose() {
+            if (delegate instanceof Disposable disposable) {
+                disposable.dispose();
+            } else {
+                Mono.from(close()).block();
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return delegate instanceof Disposable disposable && disposable.isDisposed();
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.config;
+
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Result;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.r2dbc.connection.init.ConnectionFactoryInitializer;
+import org.springframework.util.StreamUtils;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 嵌入式数据库配置（embedded profile）
+ * 在没有 PostgreSQL 的环境中使用 H2 的 PostgreSQL 兼容模式代替，
+ * 启动时按版本顺序执行 db/migration 下的迁移脚本，初始化表结构和等级数据；
+ * H2 不支持的 PL/pgSQL 函数和触发器语句会被跳过；被跳过的语句新增的列（例如区间类型的生成列）在 H2 中不存在，
+ * 之后引用这些列的语句（列注释、约束等）也一并跳过
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("embedded")
+public class EmbeddedDatabaseConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(EmbeddedDatabaseConfig.class);
+
+    private static final String MIGRATION_LOCATION = "classpath:db/migration/V*__*.sql";
+
+    private static final Pattern MIGRATION_VERSION = Pattern.compile("^V(\\d+)__");
+
+    /**
+     * 含有这些片段的语句只能在 PostgreSQL 中执行
+     */
+    private static final List<String> POSTGRESQL_ONLY_MARKERS = List.of("$$", "INT4RANGE", "DATERANGE", "USING GIST");
+
+    /**
+     * ALTER TABLE ... ADD COLUMN 语句新增的列名
+     */
+    private static final Pattern ADDED_COLUMN = Pattern.compile(
+            "\\bADD\\s+COLUMN\\s+(?:IF\\s+NOT\\s+EXISTS\\s+)?(\\w+)", Pattern.CASE_INSENSITIVE);
+
+    @Bean
+    public ConnectionFactoryInitializer embeddedDatabaseInitializer(ConnectionFactory connectionFactory) {
+        List<String> statements = loadMigrationStatements();
+        ConnectionFactoryInitializer initializer = new ConnectionFactoryInitializer();
+        initializer.setConnectionFactory(connectionFactory);
+        initializer.setDatabasePopulator(connection -> Flux.fromIterable(statements)
+                .concatMap(sql -> Flux.from(connection.createStatement(sql).execute())
+                        .concatMap(Result::getRowsUpdated))
+                .then());
+        return initializer;
+    }
+
+    /**
+     * 读取全部迁移脚本并拆分为 H2 可执行的语句
+     *
+     * @return 按迁移版本排序的 SQL 语句
+     */
+    static List<String> loadMigrationStatements() {
+        List<String> statements = new ArrayList<>();
+        Set<String> skippedColumns = new HashSet<>();
+        for (Resource script : migrationScripts()) {
+            int skipped = 0;
+            for (String statement : splitStatements(read(script))) {
+                if (isSupported(statement, skippedColumns)) {
+                    statements.add(statement);
+                } else {
+                    Matcher addedColumn = ADDED_COLUMN.matcher(statement);
+                    while (addedColumn.find()) {
+                        skippedColumns.add(addedColumn.group(1).toUpperCase(Locale.ROOT));
+                    }
+                    skipped++;
+                }
+            }
+            log.info("嵌入式数据库加载迁移脚本 {}（跳过 {} 条 H2 不支持的语句）", script.getFilename(), skipped);
+        }
+        return statements;
+    }
+
+    /**
+     * 拆分 SQL 脚本
+     * 按行尾的分号拆分，忽略注释行；$$ 引用的函数体作为一个整体保留
+     *
+     * @param script SQL 脚本
+     * @return 不含结尾分号的语句列表
+     */
+    static List<String> splitStatements(String script) {
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean inDollarQuote = false;
+        for (String line : script.split("\\R")) {
+            String trimmed = line.strip();
+            if (!inDollarQuote && (trimmed.isEmpty() || trimmed.startsWith("--"))) {
+                continue;
+            }
+            current.append(line).append('\n');
+            if (countDollarQuotes(line) % 2 == 1) {
+                inDollarQuote = !inDollarQuote;
+            }
+            if (!inDollarQuote && trimmed.endsWith(";")) {
+                String statement = current.toString().strip();
+                statements.add(statement.substring(0, statement.length() - 1));
+                current.setLength(0);
+            }
+        }
+        if (!current.isEmpty()) {
+            statements.add(current.toString().strip());
+        }
+        return statements;
+    }
+
+    /**
+     * 判断 H2 是否支持该语句
+     * PL/pgSQL 函数、触发器、扩展以及区间类型与 GiST 排他约束只在 PostgreSQL 中有意义；
+     * 引用了已跳过的列的语句同样不能执行
+     *
+     * @param statement SQL 语句
+     * @param skippedColumns 已跳过的语句新增的列名（大写）
+     */
+    static boolean isSupported(String statement, Set<String> skippedColumns) {
+        String normalized = statement.toUpperCase(Locale.ROOT);
+        for (String column : skippedColumns) {
+            if (Pattern.compile("\\b" + Pattern.quote(column) + "\\b").matcher(normalized).find()) {
+                return false;
+            }
+        }
+        if (normalized.startsWith("CREATE TRIGGER") || normalized.startsWith("DROP TRIGGER")
+                || normalized.startsWith("CREATE EXTENSION")) {
+            return false;
+        }
+        for (String marker : POSTGRESQL_ONLY_MARKERS) {
+            if (normalized.contains(marker)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int countDollarQuotes(String line) {
+        int count = 0;
+        for (int i = line.indexOf("$$"); i >= 0; i = line.indexOf("$$", i + 2)) {
+            count++;
+        }
+        return count;
+    }
+
+    private static List<Resource> migrationScripts() {
+        try {
+            List<Resource> scripts = new ArrayList<>(Arrays.asList(
+                    new PathMatchingResourcePatternResolver().getResources(MIGRATION_LOCATION)));
+            scripts.sort(Comparator.comparingInt(EmbeddedDatabaseConfig::migrationVersion));
+            return scripts;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int migrationVersion(Resource script) {
+        Matcher matcher = MIGRATION_VERSION.matcher(String.valueOf(script.getFilename()));
+        if (!matcher.find()) {
+            throw new IllegalStateException("无法解析迁移脚本版本: " + script.getFilename());
+        }
+        return Integer.parseInt(matcher.group(1));
+    }
+
+    private static String read(Resource script) {
+        try (InputStream in = script.getInputStream()) {
+            return StreamUtils.copyToString(in, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
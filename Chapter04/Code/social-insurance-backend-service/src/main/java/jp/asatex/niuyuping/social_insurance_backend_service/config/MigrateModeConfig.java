@@ -0,0 +1,39 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.config;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * 迁移模式配置（migrate profile）
+ * Flyway 在上下文刷新期间执行迁移，刷新完成后由本 Runner 关闭上下文并退出进程：
+ * 不启动 Web 服务器，也不会触发 ApplicationReadyEvent（保险费等级索引不加载、不订阅变更通知）。
+ * 迁移失败时上下文刷新失败，进程以非 0 退出码结束，可直接作为 Kubernetes 的 Job / init container 使用；
+ * 服务实例本身关闭 Flyway，启动时不再建立 JDBC 连接，也不会在多个 Pod 同时启动时争用迁移锁
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("migrate")
+public class MigrateModeConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(MigrateModeConfig.class);
+
+    /**
+     * 迁移完成后退出
+     * 依赖 Flyway Bean：migrate profile 下 Flyway 未启用时启动即失败，不会误报迁移成功
+     */
+    @Bean
+    ApplicationRunner exitAfterMigration(ConfigurableApplicationContext context, Flyway flyway) {
+        return args -> {
+            MigrationInfo current = flyway.info().current();
+            log.info("数据库迁移完成，当前版本：{}", current != null ? current.getVersion() : "无");
+            System.exit(SpringApplication.exit(context, () -> 0));
+        };
+    }
+}
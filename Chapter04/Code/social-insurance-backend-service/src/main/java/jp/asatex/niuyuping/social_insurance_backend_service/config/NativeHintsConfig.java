@@ -0,0 +1,58 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.config;
+
+import jp.asatex.niuyuping.social_insurance_backend_service.controller.dto.ErrorResponseDto;
+import jp.asatex.niuyuping.social_insurance_backend_service.controller.dto.RateTableImportResultDto;
+import jp.asatex.niuyuping.social_insurance_backend_service.controller.dto.SocialInsuranceBatchRequestDto;
+import jp.asatex.niuyuping.social_insurance_backend_service.controller.dto.SocialInsuranceBatchResultDto;
+import jp.asatex.niuyuping.social_insurance_backend_service.controller.dto.SocialInsuranceCurvePointDto;
+import jp.asatex.niuyuping.social_insurance_backend_service.controller.dto.SocialInsuranceDto;
+import jp.asatex.niuyuping.social_insurance_backend_service.entity.EmploymentInsuranceRate;
+import jp.asatex.niuyuping.social_insurance_backend_service.entity.PremiumBracket;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * GraalVM native image 运行时提示
+ * 补充 Spring AOT 无法自动推断的部分，JVM 上运行时不起作用
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeHintsConfig.ApplicationRuntimeHints.class)
+public class NativeHintsConfig {
+
+    static class ApplicationRuntimeHints implements RuntimeHintsRegistrar {
+
+        private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // JSON 序列化类型：单条查询返回 Mono<ResponseEntity<Object>>，且 SocialInsuranceJsonEncoder 直接编码 DTO，
+            // AOT 无法从方法签名推断；嵌套的费用记录由 BindingReflectionHintsRegistrar 递归注册
+            bindingRegistrar.registerReflectionHints(hints.reflection(),
+                    SocialInsuranceDto.class,
+                    SocialInsuranceBatchRequestDto.class,
+                    SocialInsuranceBatchResultDto.class,
+                    SocialInsuranceCurvePointDto.class,
+                    RateTableImportResultDto.class,
+                    ErrorResponseDto.class);
+
+            // 实体映射：R2dbcEntityTemplate 与 DatabaseClient + 转换器直接读写 PremiumBracket，
+            // EmploymentInsuranceRate 由 Repository 读取
+            bindingRegistrar.registerReflectionHints(hints.reflection(), PremiumBracket.class,
+                    EmploymentInsuranceRate.class);
+
+            // R2DBC 驱动与连接池：ConnectionFactories 通过 ServiceLoader 按 URL 中的驱动名实例化 Provider
+            hints.reflection().registerType(TypeReference.of("io.r2dbc.postgresql.PostgresqlConnectionFactoryProvider"),
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            hints.reflection().registerType(TypeReference.of("io.r2dbc.pool.PoolingConnectionFactoryProvider"),
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+            // Flyway 与 EmbeddedDatabaseConfig 读取的迁移脚本
+            hints.resources().registerPattern("db/migration/*.sql");
+        }
+    }
+}
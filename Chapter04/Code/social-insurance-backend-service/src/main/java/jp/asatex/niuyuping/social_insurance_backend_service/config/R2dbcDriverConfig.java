@@ -0,0 +1,32 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.config;
+
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Option;
+import org.springframework.boot.r2dbc.autoconfigure.ConnectionFactoryOptionsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * R2DBC 驱动配置
+ * 将 R2dbcDriverProperties 写入 ConnectionFactoryOptions，仅对 PostgreSQL 驱动生效（embedded 配置使用的 H2 不受影响）
+ */
+@Configuration(proxyBeanMethods = false)
+public class R2dbcDriverConfig {
+
+    private static final String POSTGRESQL_DRIVER = "postgresql";
+
+    /**
+     * r2dbc-postgresql 的预编译语句缓存选项
+     */
+    private static final Option<Integer> PREPARED_STATEMENT_CACHE_QUERIES =
+            Option.valueOf("preparedStatementCacheQueries");
+
+    @Bean
+    ConnectionFactoryOptionsBuilderCustomizer postgresqlDriverOptionsCustomizer(R2dbcDriverProperties properties) {
+        return builder -> {
+            if (POSTGRESQL_DRIVER.equals(builder.build().getValue(ConnectionFactoryOptions.DRIVER))) {
+                builder.option(PREPARED_STATEMENT_CACHE_QUERIES, properties.preparedStatementCacheQueries());
+            }
+        };
+    }
+}
@@ -0,0 +1,16 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * R2DBC 驱动配置（social-insurance.r2dbc.*）
+ * 连接池本身由 Spring Boot 的 spring.r2dbc.pool.* 配置，这里补充 r2dbc-postgresql 特有的选项
+ *
+ * @param preparedStatementCacheQueries 每个连接缓存的预编译语句数（-1 不限制，0 禁用），
+ *                                      限制后按 LRU 淘汰，避免动态 SQL（如批量导入的多行 INSERT）
+ *                                      在长生命周期的连接上无限累积服务端预编译语句
+ */
+@ConfigurationProperties("social-insurance.r2dbc")
+public record R2dbcDriverProperties(@DefaultValue("256") int preparedStatementCacheQueries) {
+}
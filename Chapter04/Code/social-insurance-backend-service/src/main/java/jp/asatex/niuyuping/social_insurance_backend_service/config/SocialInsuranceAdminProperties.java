@@ -0,0 +1,15 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 管理接口配置（social-insurance.admin.*）
+ * 管理接口与查询接口共用同一端口且不做认证，默认关闭，只在执行等级表导入的实例上显式开启；
+ * 开关在运行时判断而不是通过条件注解决定是否注册 Bean，AOT 处理后的 native image 同样可以按环境开启
+ *
+ * @param enabled 是否开放管理接口（关闭时管理接口返回 404）
+ */
+@ConfigurationProperties("social-insurance.admin")
+public record SocialInsuranceAdminProperties(@DefaultValue("false") boolean enabled) {
+}
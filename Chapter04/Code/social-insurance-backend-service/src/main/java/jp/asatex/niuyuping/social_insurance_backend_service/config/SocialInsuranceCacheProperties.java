@@ -0,0 +1,21 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 社会保险金额结果缓存配置（social-insurance.cache.*）
+ *
+ * @param enabled 是否启用缓存
+ * @param maximumSize 最大条目数（超出时按 Caffeine 的 W-TinyLFU 策略淘汰）
+ * @param refreshAfterWrite 写入后经过该时间的条目在下次访问时异步刷新，刷新期间继续返回旧值
+ * @param expireAfterWrite 写入后经过该时间的条目失效（应长于 refreshAfterWrite）
+ */
+@ConfigurationProperties("social-insurance.cache")
+public record SocialInsuranceCacheProperties(@DefaultValue("false") boolean enabled,
+                                             @DefaultValue("1000") long maximumSize,
+                                             @DefaultValue("1m") Duration refreshAfterWrite,
+                                             @DefaultValue("10m") Duration expireAfterWrite) {
+}
@@ -1,6 +1,10 @@
 package jp.asatex.niuyuping.social_insurance_backend_service.controller;
 
 import jp.asatex.niuyuping.social_insurance_backend_service.controller.dto.ErrorResponseDto;
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.BracketNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -10,15 +14,30 @@ import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 /**
  * 全局异常处理器
  * 采用 WebFlux 响应式编程风格，统一处理所有异常
+ * 日志通过 SLF4J 输出（键值对形式的结构化字段，由 logback-spring.xml 异步写出），
+ * 客户端错误与服务端错误分别限流，非法输入风暴不会挤占服务端错误的日志，也不会阻塞事件循环
  */
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    /**
+     * 客户端错误（4xx）日志：每秒最多 10 条，不输出堆栈
+     */
+    private final LogRateLimiter clientErrorLog = new LogRateLimiter(10, Duration.ofSeconds(1));
+
+    /**
+     * 服务端错误（5xx）日志：每秒最多 50 条，输出堆栈
+     */
+    private final LogRateLimiter serverErrorLog = new LogRateLimiter(50, Duration.ofSeconds(1));
+
     /**
      * 处理通用异常（作为兜底处理器）
      *
@@ -28,27 +47,10 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(Exception.class)
     public Mono<ResponseEntity<ErrorResponseDto>> handleException(Exception ex, ServerWebExchange exchange) {
-        return Mono.defer(() -> {
-            // 输出异常信息到控制台
-            LocalDateTime now = LocalDateTime.now();
-            String path = exchange.getRequest().getPath().value();
-            
-            System.err.println("[" + now + "] 发生异常: " + ex.getClass().getSimpleName());
-            System.err.println("异常消息: " + ex.getMessage());
-            System.err.println("请求路径: " + path);
-            ex.printStackTrace();
-
-            // 构建错误响应（默认500错误）
-            ErrorResponseDto errorResponse = ErrorResponseDto.builder()
-                    .timestamp(now)
-                    .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
-                    .error(HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase())
-                    .message(ex.getMessage() != null ? ex.getMessage() : "发生未知错误")
-                    .path(path)
-                    .build();
-
-            return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse));
-        });
+        String path = exchange.getRequest().getPath().value();
+        logServerError("发生异常", ex, path);
+        return Mono.just(ErrorTemplate.INTERNAL_SERVER_ERROR.response(
+                ex.getMessage() != null ? ex.getMessage() : "发生未知错误", path));
     }
 
     /**
@@ -61,35 +63,19 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(WebExchangeBindException.class)
     public Mono<ResponseEntity<ErrorResponseDto>> handleWebExchangeBindException(
             WebExchangeBindException ex, ServerWebExchange exchange) {
-        return Mono.defer(() -> {
-            // 输出异常信息到控制台
-            LocalDateTime now = LocalDateTime.now();
-            String path = exchange.getRequest().getPath().value();
-            
-            System.err.println("[" + now + "] 发生参数绑定异常: " + ex.getClass().getSimpleName());
-            System.err.println("异常消息: " + ex.getMessage());
-            System.err.println("请求路径: " + path);
-            ex.printStackTrace();
-
-            // 构建详细的错误消息
-            StringBuilder errorMessage = new StringBuilder("参数验证失败: ");
-            ex.getBindingResult().getFieldErrors().forEach(error -> {
-                errorMessage.append(error.getField())
-                        .append(" - ")
-                        .append(error.getDefaultMessage())
-                        .append("; ");
-            });
-
-            ErrorResponseDto errorResponse = ErrorResponseDto.builder()
-                    .timestamp(now)
-                    .status(HttpStatus.BAD_REQUEST.value())
-                    .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
-                    .message(errorMessage.toString())
-                    .path(path)
-                    .build();
-
-            return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse));
+        String path = exchange.getRequest().getPath().value();
+        logClientError("发生参数绑定异常", ex, path);
+
+        // 构建详细的错误消息
+        StringBuilder errorMessage = new StringBuilder("参数验证失败: ");
+        ex.getBindingResult().getFieldErrors().forEach(error -> {
+            errorMessage.append(error.getField())
+                    .append(" - ")
+                    .append(error.getDefaultMessage())
+                    .append("; ");
         });
+
+        return Mono.just(ErrorTemplate.BAD_REQUEST.response(errorMessage.toString(), path));
     }
 
     /**
@@ -102,32 +88,36 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(ResponseStatusException.class)
     public Mono<ResponseEntity<ErrorResponseDto>> handleResponseStatusException(
             ResponseStatusException ex, ServerWebExchange exchange) {
-        return Mono.defer(() -> {
-            // 输出异常信息到控制台
-            LocalDateTime now = LocalDateTime.now();
-            String path = exchange.getRequest().getPath().value();
-            
-            System.err.println("[" + now + "] 发生响应状态异常: " + ex.getClass().getSimpleName());
-            System.err.println("异常消息: " + ex.getMessage());
-            System.err.println("HTTP状态码: " + ex.getStatusCode());
-            System.err.println("请求路径: " + path);
-            ex.printStackTrace();
-
-            HttpStatus status = HttpStatus.resolve(ex.getStatusCode().value());
-            if (status == null) {
-                status = HttpStatus.INTERNAL_SERVER_ERROR;
-            }
-
-            ErrorResponseDto errorResponse = ErrorResponseDto.builder()
-                    .timestamp(now)
-                    .status(status.value())
-                    .error(status.getReasonPhrase())
-                    .message(ex.getReason() != null ? ex.getReason() : ex.getMessage())
-                    .path(path)
-                    .build();
+        String path = exchange.getRequest().getPath().value();
+
+        HttpStatus status = HttpStatus.resolve(ex.getStatusCode().value());
+        if (status == null) {
+            status = HttpStatus.INTERNAL_SERVER_ERROR;
+        }
+        if (status.is5xxServerError()) {
+            logServerError("发生响应状态异常", ex, path);
+        } else {
+            logClientError("发生响应状态异常", ex, path);
+        }
+
+        return Mono.just(ErrorTemplate.of(status).response(
+                ex.getReason() != null ? ex.getReason() : ex.getMessage(), path));
+    }
 
-            return Mono.just(ResponseEntity.status(status).body(errorResponse));
-        });
+    /**
+     * 处理 BracketNotFoundException（月薪没有对应的保险费等级）
+     * 可预期的输入错误：异常不含堆栈，响应直接由模板生成
+     *
+     * @param ex      BracketNotFoundException
+     * @param exchange ServerWebExchange 对象
+     * @return Mono<ResponseEntity<ErrorResponseDTO>> 错误响应
+     */
+    @ExceptionHandler(BracketNotFoundException.class)
+    public Mono<ResponseEntity<ErrorResponseDto>> handleBracketNotFoundException(
+            BracketNotFoundException ex, ServerWebExchange exchange) {
+        String path = exchange.getRequest().getPath().value();
+        logClientError("未找到保险费等级", ex, path);
+        return Mono.just(ErrorTemplate.BAD_REQUEST.response(ex.getMessage(), path));
     }
 
     /**
@@ -140,26 +130,26 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(IllegalArgumentException.class)
     public Mono<ResponseEntity<ErrorResponseDto>> handleIllegalArgumentException(
             IllegalArgumentException ex, ServerWebExchange exchange) {
-        return Mono.defer(() -> {
-            // 输出异常信息到控制台
-            LocalDateTime now = LocalDateTime.now();
-            String path = exchange.getRequest().getPath().value();
-            
-            System.err.println("[" + now + "] 发生非法参数异常: " + ex.getClass().getSimpleName());
-            System.err.println("异常消息: " + ex.getMessage());
-            System.err.println("请求路径: " + path);
-            ex.printStackTrace();
-
-            ErrorResponseDto errorResponse = ErrorResponseDto.builder()
-                    .timestamp(now)
-                    .status(HttpStatus.BAD_REQUEST.value())
-                    .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
-                    .message(ex.getMessage())
-                    .path(path)
-                    .build();
+        String path = exchange.getRequest().getPath().value();
+        logClientError("发生非法参数异常", ex, path);
+        return Mono.just(ErrorTemplate.BAD_REQUEST.response(ex.getMessage(), path));
+    }
 
-            return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse));
-        });
+    /**
+     * 处理 DataIntegrityViolationException（违反唯一约束、排他约束等）
+     * 例如导入的等级表与现有等级表的生效期间重叠
+     * 约束名、列值等数据库细节只写入日志，响应中只返回固定消息
+     *
+     * @param ex      DataIntegrityViolationException
+     * @param exchange ServerWebExchange 对象
+     * @return Mono<ResponseEntity<ErrorResponseDTO>> 错误响应
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public Mono<ResponseEntity<ErrorResponseDto>> handleDataIntegrityViolationException(
+            DataIntegrityViolationException ex, ServerWebExchange exchange) {
+        String path = exchange.getRequest().getPath().value();
+        logClientError("发生数据完整性约束冲突", ex, path);
+        return Mono.just(ErrorTemplate.CONFLICT.response("数据与现有等级表冲突", path));
     }
 
     /**
@@ -172,26 +162,61 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(NullPointerException.class)
     public Mono<ResponseEntity<ErrorResponseDto>> handleNullPointerException(
             NullPointerException ex, ServerWebExchange exchange) {
-        return Mono.defer(() -> {
-            // 输出异常信息到控制台
-            LocalDateTime now = LocalDateTime.now();
-            String path = exchange.getRequest().getPath().value();
-            
-            System.err.println("[" + now + "] 发生空指针异常: " + ex.getClass().getSimpleName());
-            System.err.println("异常消息: " + ex.getMessage());
-            System.err.println("请求路径: " + path);
-            ex.printStackTrace();
-
-            ErrorResponseDto errorResponse = ErrorResponseDto.builder()
-                    .timestamp(now)
-                    .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
-                    .error(HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase())
-                    .message("发生空指针异常: " + (ex.getMessage() != null ? ex.getMessage() : "未知错误"))
-                    .path(path)
-                    .build();
+        String path = exchange.getRequest().getPath().value();
+        logServerError("发生空指针异常", ex, path);
+        return Mono.just(ErrorTemplate.INTERNAL_SERVER_ERROR.response(
+                "发生空指针异常: " + (ex.getMessage() != null ? ex.getMessage() : "未知错误"), path));
+    }
 
-            return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse));
-        });
+    /**
+     * 记录客户端错误：WARN 级别，不输出堆栈，限流
+     */
+    private void logClientError(String summary, Exception ex, String path) {
+        if (clientErrorLog.tryAcquire() && log.isWarnEnabled()) {
+            log.atWarn()
+                    .addKeyValue("exception", ex.getClass().getSimpleName())
+                    .addKeyValue("path", path)
+                    .addKeyValue("suppressed", clientErrorLog.drainSuppressed())
+                    .log("{}: {}", summary, ex.getMessage());
+        }
+    }
+
+    /**
+     * 记录服务端错误：ERROR 级别，输出堆栈，限流
+     */
+    private void logServerError(String summary, Exception ex, String path) {
+        if (serverErrorLog.tryAcquire()) {
+            log.atError()
+                    .setCause(ex)
+                    .addKeyValue("exception", ex.getClass().getSimpleName())
+                    .addKeyValue("path", path)
+                    .addKeyValue("suppressed", serverErrorLog.drainSuppressed())
+                    .log("{}: {}", summary, ex.getMessage());
+        }
     }
-}
 
+    /**
+     * 错误响应模板
+     * 状态码与原因短语预先确定，每次响应只填入时间戳、消息和请求路径
+     */
+    private record ErrorTemplate(HttpStatus status, Integer code, String reasonPhrase) {
+
+        static final ErrorTemplate BAD_REQUEST = of(HttpStatus.BAD_REQUEST);
+        static final ErrorTemplate CONFLICT = of(HttpStatus.CONFLICT);
+        static final ErrorTemplate INTERNAL_SERVER_ERROR = of(HttpStatus.INTERNAL_SERVER_ERROR);
+
+        static ErrorTemplate of(HttpStatus status) {
+            return new ErrorTemplate(status, status.value(), status.getReasonPhrase());
+        }
+
+        ResponseEntity<ErrorResponseDto> response(String message, String path) {
+            return ResponseEntity.status(status).body(ErrorResponseDto.builder()
+                    .timestamp(LocalDateTime.now())
+                    .status(code)
+                    .error(reasonPhrase)
+                    .message(message)
+                    .path(path)
+                    .build());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.controller;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 日志限流器
+ * 固定时间窗口内最多放行指定条数的日志，超出部分只计数，
+ * 下一条放行的日志附带被抑制的条数；异常风暴时日志量保持有界
+ */
+final class LogRateLimiter {
+
+    private final long intervalNanos;
+    private final int permitsPerInterval;
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicInteger used = new AtomicInteger();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    LogRateLimiter(int permitsPerInterval, Duration interval) {
+        this.permitsPerInterval = permitsPerInterval;
+        this.intervalNanos = interval.toNanos();
+    }
+
+    /**
+     * 尝试获取一次记录日志的许可
+     *
+     * @return 是否允许记录本条日志
+     */
+    boolean tryAcquire() {
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= intervalNanos && windowStart.compareAndSet(start, now)) {
+            used.set(0);
+        }
+        if (used.incrementAndGet() <= permitsPerInterval) {
+            return true;
+        }
+        suppressed.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * 取出上次放行以来被抑制的日志条数，并清零
+     *
+     * @return 被抑制的条数
+     */
+    long drainSuppressed() {
+        return suppressed.getAndSet(0);
+    }
+}
@@ -0,0 +1,54 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.controller;
+
+import jp.asatex.niuyuping.social_insurance_backend_service.application.PremiumBracketApplicationService;
+import jp.asatex.niuyuping.social_insurance_backend_service.config.SocialInsuranceAdminProperties;
+import jp.asatex.niuyuping.social_insurance_backend_service.controller.dto.RateTableImportResultDto;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 保险费等级管理 Controller
+ * 提供等级表维护接口，仅供内部管理使用；接口不做认证，默认关闭（social-insurance.admin.enabled=false），
+ * 关闭时按不存在处理返回 404，开启的实例仍需在网关层限制访问
+ */
+@RestController
+@RequestMapping("/admin/premiumBrackets")
+public class PremiumBracketAdminController {
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final PremiumBracketApplicationService premiumBracketApplicationService;
+    private final SocialInsuranceAdminProperties adminProperties;
+
+    public PremiumBracketAdminController(PremiumBracketApplicationService premiumBracketApplicationService,
+                                         SocialInsuranceAdminProperties adminProperties) {
+        this.premiumBracketApplicationService = premiumBracketApplicationService;
+        this.adminProperties = adminProperties;
+    }
+
+    /**
+     * 批量导入等级表
+     * POST /admin/premiumBrackets/import，Content-Type 为 text/csv
+     * 列顺序：prefecture,valid_from,valid_to,grade,std_rem,min_amount,max_amount,health_no_care,health_care,pension
+     * 请求体按行解码，不受单个请求体的内存缓冲上限限制；全部数据在单个事务中写入，
+     * 同一版本（都道府县 × 生效日）的旧数据被整体替换
+     *
+     * @param csvLines CSV 行流
+     * @return Mono<RateTableImportResultDto> 导入结果
+     */
+    @PostMapping(value = "/import", consumes = TEXT_CSV_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<RateTableImportResultDto> importRateTables(@RequestBody Flux<String> csvLines) {
+        if (!adminProperties.enabled()) {
+            return Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND));
+        }
+        return premiumBracketApplicationService.importRateTables(csvLines)
+                .map(RateTableImportResultDto::of);
+    }
+}
@@ -2,13 +2,28 @@ package jp.asatex.niuyuping.social_insurance_backend_service.controller;
 
 import jp.asatex.niuyuping.social_insurance_backend_service.application.PremiumBracketApplicationService;
 import jp.asatex.niuyuping.social_insurance_backend_service.application.dto.SocialInsuranceApplicationDto;
+import jp.asatex.niuyuping.social_insurance_backend_service.application.dto.SocialInsuranceBatchApplicationDto;
+import jp.asatex.niuyuping.social_insurance_backend_service.controller.dto.SocialInsuranceBatchRequestDto;
+import jp.asatex.niuyuping.social_insurance_backend_service.controller.dto.SocialInsuranceBatchResultDto;
+import jp.asatex.niuyuping.social_insurance_backend_service.controller.dto.SocialInsuranceCurvePointDto;
 import jp.asatex.niuyuping.social_insurance_backend_service.controller.dto.SocialInsuranceDto;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * 保险费等级 Controller
  * 提供 RESTful API 接口，采用 WebFlux 响应式编程风格
@@ -17,57 +32,146 @@ import reactor.core.publisher.Mono;
 @RequestMapping("/")
 public class PremiumBracketController {
 
+    /**
+     * JSON 批量查询的最大条数
+     */
+    private static final int MAX_BATCH_SIZE = 10_000;
+
     private final PremiumBracketApplicationService premiumBracketApplicationService;
+    private final SocialInsuranceJsonEncoder socialInsuranceJsonEncoder;
 
-    public PremiumBracketController(PremiumBracketApplicationService premiumBracketApplicationService) {
+    public PremiumBracketController(PremiumBracketApplicationService premiumBracketApplicationService,
+                                    SocialInsuranceJsonEncoder socialInsuranceJsonEncoder) {
         this.premiumBracketApplicationService = premiumBracketApplicationService;
+        this.socialInsuranceJsonEncoder = socialInsuranceJsonEncoder;
     }
 
     /**
      * 查询社会保险金额
-     * GET /socialInsuranceQuery?monthlySalary=650000&age=35
+     * GET /socialInsuranceQuery?monthlySalary=650000&age=35[&prefecture=kanagawa&asOf=2024-04-01&industry=general]
+     * 未指定都道府县时使用 kanagawa，未指定基准日时使用当天适用的等级表；
+     * 指定事业类别（general、agriculture、construction）时在响应中附加 employmentInsurance（雇用保险费）
+     * 客户端接受 JSON 时直接写出等级索引中按等级位置保存的 JSON 字节，否则交由编解码器按内容协商序列化；
+     * 含雇用保险费的结果随月薪变化，不属于预计算结果，同样交由编解码器序列化
      *
      * @param monthlySalary 月薪
      * @param age 年龄
-     * @return Mono<SocialInsuranceDto> 社会保险金额 DTO
+     * @param prefecture 都道府县（可选）
+     * @param asOf 基准日（可选，ISO 格式 yyyy-MM-dd）
+     * @param industry 雇用保险的事业类别（可选）
+     * @param exchange ServerWebExchange 对象，用于读取 Accept 头
+     * @return Mono<ResponseEntity<Object>> 社会保险金额 DTO 或其 JSON 字节
      */
     @GetMapping("/socialInsuranceQuery")
-    public Mono<SocialInsuranceDto> socialInsuranceQuery(
+    public Mono<ResponseEntity<Object>> socialInsuranceQuery(
             @RequestParam("monthlySalary") Integer monthlySalary,
-            @RequestParam("age") Integer age) {
-        return premiumBracketApplicationService.socialInsuranceQuery(monthlySalary, age)
-                .map(this::convertToDto);
+            @RequestParam("age") Integer age,
+            @RequestParam(value = "prefecture", required = false) String prefecture,
+            @RequestParam(value = "asOf", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf,
+            @RequestParam(value = "industry", required = false) String industry,
+            ServerWebExchange exchange) {
+        if (industry == null
+                && socialInsuranceJsonEncoder.isAcceptable(exchange.getRequest().getHeaders().getAccept())) {
+            return premiumBracketApplicationService.encodedSocialInsuranceQuery(monthlySalary, age, prefecture, asOf,
+                            dto -> socialInsuranceJsonEncoder.encode(convertToDto(dto)))
+                    .map(json -> ResponseEntity.ok()
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .<Object>body(json));
+        }
+        return premiumBracketApplicationService.socialInsuranceQuery(monthlySalary, age, prefecture, asOf, industry)
+                .map(this::convertToDto)
+                .map(dto -> ResponseEntity.ok().<Object>body(dto));
+    }
+
+    /**
+     * 批量查询社会保险金额
+     * POST /socialInsuranceQuery/batch
+     * 请求体为 [{"employeeId":"E001","monthlySalary":650000,"age":35,"prefecture":"kanagawa","asOf":"2024-04-01"}, ...]
+     * （prefecture、asOf 可省略），
+     * 按请求顺序返回结果；单条查询失败时该条结果的 error 字段记录原因
+     * 结果需要整体返回，请求条数不能超过 MAX_BATCH_SIZE（超过时返回 400，更大的工资文件请使用 NDJSON 流式接口）
+     *
+     * @param requests 查询请求（JSON 数组按元素逐个解码）
+     * @return Mono<List<SocialInsuranceBatchResultDto>> 与请求顺序一致的结果列表
+     */
+    @PostMapping(value = "/socialInsuranceQuery/batch",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<List<SocialInsuranceBatchResultDto>> socialInsuranceBatchQuery(
+            @RequestBody Flux<SocialInsuranceBatchRequestDto> requests) {
+        // 多读一条用于判断是否超出上限，超出后取消请求体的读取
+        return requests.take(MAX_BATCH_SIZE + 1L)
+                .map(SocialInsuranceBatchRequestDto::toQuery)
+                .collectList()
+                .flatMap(queries -> queries.size() > MAX_BATCH_SIZE
+                        ? Mono.error(new IllegalArgumentException(
+                                "批量查询条数不能超过 " + MAX_BATCH_SIZE + "，请分批提交或使用 application/x-ndjson 流式查询"))
+                        : premiumBracketApplicationService.socialInsuranceBatchQuery(queries))
+                .map(applicationResults -> {
+                    List<SocialInsuranceBatchResultDto> results = new ArrayList<>(applicationResults.size());
+                    for (SocialInsuranceBatchApplicationDto applicationResult : applicationResults) {
+                        results.add(SocialInsuranceBatchResultDto.of(applicationResult));
+                    }
+                    return results;
+                });
+    }
+
+    /**
+     * 流式批量查询社会保险金额（NDJSON）
+     * POST /socialInsuranceQuery/batch，Content-Type 与 Accept 均为 application/x-ndjson
+     * 每行一个查询请求，每计算出一条结果立即写出一行；请求读取与响应写出之间保留背压，
+     * 处理超大工资文件时内存占用保持恒定
+     *
+     * @param requests 查询请求流（每行一个 JSON 对象）
+     * @return Flux<SocialInsuranceBatchResultDto> 与请求顺序一致的结果流
+     */
+    @PostMapping(value = "/socialInsuranceQuery/batch",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<SocialInsuranceBatchResultDto> socialInsuranceStreamQuery(
+            @RequestBody Flux<SocialInsuranceBatchRequestDto> requests) {
+        return premiumBracketApplicationService.socialInsuranceStreamQuery(
+                        requests.map(SocialInsuranceBatchRequestDto::toQuery))
+                .map(SocialInsuranceBatchResultDto::of);
+    }
+
+    /**
+     * 查询保险费曲线（月薪 → 社会保险金额）
+     * GET /socialInsuranceQuery/curve?fromSalary=50000&toSalary=1500000&step=1000&age=35[&prefecture=kanagawa&asOf=2024-04-01]
+     * 一次请求返回区间内按步长取样的全部点，代替逐个月薪调用 /socialInsuranceQuery；
+     * 各点按月薪升序逐个生成并写出（application/x-ndjson 时每行一个点，application/json 时为数组），
+     * 月薪没有对应等级的点 error 字段记录原因
+     *
+     * @param fromSalary 起始月薪（含）
+     * @param toSalary 结束月薪（含）
+     * @param step 步长
+     * @param age 年龄
+     * @param prefecture 都道府县（可选）
+     * @param asOf 基准日（可选，ISO 格式 yyyy-MM-dd）
+     * @return Flux<SocialInsuranceCurvePointDto> 按月薪升序的曲线点
+     */
+    @GetMapping(value = "/socialInsuranceQuery/curve",
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<SocialInsuranceCurvePointDto> socialInsuranceCurve(
+            @RequestParam("fromSalary") Integer fromSalary,
+            @RequestParam("toSalary") Integer toSalary,
+            @RequestParam("step") Integer step,
+            @RequestParam("age") Integer age,
+            @RequestParam(value = "prefecture", required = false) String prefecture,
+            @RequestParam(value = "asOf", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        return premiumBracketApplicationService.socialInsuranceCurve(fromSalary, toSalary, step, age, prefecture, asOf)
+                .map(SocialInsuranceCurvePointDto::of);
     }
 
     /**
      * 将 Application DTO 转换为 Controller DTO
-     * 采用流式编程风格进行数据转换
+     * 费用结构体映射为 Controller 层的记录，金额为不可变的 BigDecimal，只引用不复制
      *
      * @param applicationDto Application DTO
      * @return Controller DTO
      */
     private SocialInsuranceDto convertToDto(SocialInsuranceApplicationDto applicationDto) {
-        // 转换雇员费用结构体
-        SocialInsuranceApplicationDto.EmployeeCost applicationEmployeeCost = applicationDto.getEmployeeCost();
-        SocialInsuranceDto.EmployeeCost controllerEmployeeCost = SocialInsuranceDto.EmployeeCost.builder()
-                .healthCostWithNoCare(applicationEmployeeCost.getHealthCostWithNoCare())
-                .careCost(applicationEmployeeCost.getCareCost())
-                .pension(applicationEmployeeCost.getPension())
-                .build();
-
-        // 转换雇主费用结构体
-        SocialInsuranceApplicationDto.EmployerCost applicationEmployerCost = applicationDto.getEmployerCost();
-        SocialInsuranceDto.EmployerCost controllerEmployerCost = SocialInsuranceDto.EmployerCost.builder()
-                .healthCostWithNoCare(applicationEmployerCost.getHealthCostWithNoCare())
-                .careCost(applicationEmployerCost.getCareCost())
-                .pension(applicationEmployerCost.getPension())
-                .build();
-
-        // 构建控制层 DTO
-        return SocialInsuranceDto.builder()
-                .employeeCost(controllerEmployeeCost)
-                .employerCost(controllerEmployerCost)
-                .build();
+        return SocialInsuranceDto.of(applicationDto);
     }
 }
 
@@ -0,0 +1,85 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.controller;
+
+import jp.asatex.niuyuping.social_insurance_backend_service.controller.dto.SocialInsuranceDto;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Encoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.EncoderHttpMessageWriter;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 社会保险金额查询结果的 JSON 编码器
+ * 使用 WebFlux 已配置的 JSON 编码器把 DTO 编码为 UTF-8 JSON 字节；
+ * 编码结果由等级索引按等级位置和是否缴纳介护保险保存（BracketIndex.encodedResultAt），
+ * 同一结果只编码一次，之后直接写出字节，跳过每次请求的 Jackson 序列化
+ */
+@Component
+public class SocialInsuranceJsonEncoder {
+
+    private static final ResolvableType DTO_TYPE = ResolvableType.forClass(SocialInsuranceDto.class);
+
+    private final Encoder<Object> encoder;
+
+    public SocialInsuranceJsonEncoder(ServerCodecConfigurer serverCodecConfigurer) {
+        this.encoder = findJsonEncoder(serverCodecConfigurer.getWriters());
+    }
+
+    /**
+     * 判断客户端是否接受 JSON 响应
+     * 未指定 Accept 头或 Accept 头兼容 application/json 时，可以直接写出编码好的 JSON 字节
+     *
+     * @param acceptedMediaTypes 请求的 Accept 头
+     * @return 是否接受 JSON
+     */
+    public boolean isAcceptable(List<MediaType> acceptedMediaTypes) {
+        if (acceptedMediaTypes.isEmpty()) {
+            return true;
+        }
+        for (MediaType mediaType : acceptedMediaTypes) {
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 把查询结果编码为 JSON 字节，与编解码器正常序列化的结果一致
+     *
+     * @param dto Controller DTO
+     * @return UTF-8 JSON 字节
+     */
+    public byte[] encode(SocialInsuranceDto dto) {
+        DataBuffer buffer = encoder.encodeValue(dto, DefaultDataBufferFactory.sharedInstance, DTO_TYPE,
+                MediaType.APPLICATION_JSON, Collections.emptyMap());
+        try {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            return bytes;
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    /**
+     * 从 WebFlux 已配置的编解码器中查找 JSON 编码器，保证写出的字节与正常序列化结果一致
+     */
+    @SuppressWarnings("unchecked")
+    private static Encoder<Object> findJsonEncoder(List<HttpMessageWriter<?>> writers) {
+        for (HttpMessageWriter<?> writer : writers) {
+            if (writer instanceof EncoderHttpMessageWriter<?> encoderWriter
+                    && encoderWriter.getEncoder().canEncode(DTO_TYPE, MediaType.APPLICATION_JSON)) {
+                return (Encoder<Object>) encoderWriter.getEncoder();
+            }
+        }
+        throw new IllegalStateException("未找到可编码 " + DTO_TYPE + " 的 JSON 编码器");
+    }
+}
@@ -0,0 +1,22 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.controller.dto;
+
+import jp.asatex.niuyuping.social_insurance_backend_service.application.dto.RateTableImportApplicationDto;
+
+/**
+ * 等级表批量导入结果 Controller DTO
+ *
+ * @param tableCount 导入的等级表数量（都道府县 × 生效日）
+ * @param bracketCount 导入的等级总数
+ */
+public record RateTableImportResultDto(int tableCount, long bracketCount) {
+
+    /**
+     * 由 Application DTO 创建
+     *
+     * @param applicationDto Application DTO
+     * @return Controller DTO
+     */
+    public static RateTableImportResultDto of(RateTableImportApplicationDto applicationDto) {
+        return new RateTableImportResultDto(applicationDto.tableCount(), applicationDto.bracketCount());
+    }
+}
@@ -0,0 +1,27 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.controller.dto;
+
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.dto.SocialInsuranceQueryDomainDto;
+
+import java.time.LocalDate;
+
+/**
+ * 社会保险金额批量查询的单条请求 DTO
+ *
+ * @param employeeId 员工ID（原样返回，用于调用方对应结果）
+ * @param monthlySalary 月薪
+ * @param age 年龄
+ * @param prefecture 都道府县（可选，默认 kanagawa）
+ * @param asOf 基准日（可选，ISO 格式 yyyy-MM-dd，默认当天）
+ */
+public record SocialInsuranceBatchRequestDto(String employeeId, Integer monthlySalary, Integer age,
+                                             String prefecture, LocalDate asOf) {
+
+    /**
+     * 转换为查询条件
+     *
+     * @return 查询条件 DTO
+     */
+    public SocialInsuranceQueryDomainDto toQuery() {
+        return new SocialInsuranceQueryDomainDto(employeeId, monthlySalary, age, prefecture, asOf);
+    }
+}
@@ -0,0 +1,33 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.controller.dto;
+
+import jp.asatex.niuyuping.social_insurance_backend_service.application.dto.SocialInsuranceBatchApplicationDto;
+
+/**
+ * 社会保险金额批量查询的单条结果 Controller DTO
+ * 费用结构沿用单条查询接口的 Controller 层结构体，查询失败时费用为 null 并返回错误消息
+ *
+ * @param employeeId 员工ID
+ * @param employeeCost 雇员承担的费用
+ * @param employerCost 雇主承担的费用
+ * @param error 错误消息（查询成功时为 null）
+ */
+public record SocialInsuranceBatchResultDto(String employeeId,
+                                            SocialInsuranceDto.EmployeeCost employeeCost,
+                                            SocialInsuranceDto.EmployerCost employerCost,
+                                            String error) {
+
+    /**
+     * 由 Application DTO 创建
+     *
+     * @param applicationDto Application DTO
+     * @return Controller DTO
+     */
+    public static SocialInsuranceBatchResultDto of(SocialInsuranceBatchApplicationDto applicationDto) {
+        if (applicationDto.result() == null) {
+            return new SocialInsuranceBatchResultDto(applicationDto.employeeId(), null, null, applicationDto.error());
+        }
+        return new SocialInsuranceBatchResultDto(applicationDto.employeeId(),
+                SocialInsuranceDto.EmployeeCost.of(applicationDto.result().employeeCost()),
+                SocialInsuranceDto.EmployerCost.of(applicationDto.result().employerCost()), null);
+    }
+}
@@ -0,0 +1,34 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.controller.dto;
+
+import jp.asatex.niuyuping.social_insurance_backend_service.application.dto.SocialInsuranceCurvePointApplicationDto;
+
+/**
+ * 保险费曲线上的单个点 Controller DTO
+ * 费用结构沿用单条查询接口的 Controller 层结构体，月薪没有对应等级时费用为 null 并返回错误消息
+ *
+ * @param monthlySalary 月薪
+ * @param employeeCost 雇员承担的费用
+ * @param employerCost 雇主承担的费用
+ * @param error 错误消息（有对应等级时为 null）
+ */
+public record SocialInsuranceCurvePointDto(int monthlySalary,
+                                           SocialInsuranceDto.EmployeeCost employeeCost,
+                                           SocialInsuranceDto.EmployerCost employerCost,
+                                           String error) {
+
+    /**
+     * 由 Application DTO 创建
+     *
+     * @param applicationDto Application DTO
+     * @return Controller DTO
+     */
+    public static SocialInsuranceCurvePointDto of(SocialInsuranceCurvePointApplicationDto applicationDto) {
+        if (applicationDto.result() == null) {
+            return new SocialInsuranceCurvePointDto(applicationDto.monthlySalary(), null, null,
+                    applicationDto.error());
+        }
+        return new SocialInsuranceCurvePointDto(applicationDto.monthlySalary(),
+                SocialInsuranceDto.EmployeeCost.of(applicationDto.result().employeeCost()),
+                SocialInsuranceDto.EmployerCost.of(applicationDto.result().employerCost()), null);
+    }
+}
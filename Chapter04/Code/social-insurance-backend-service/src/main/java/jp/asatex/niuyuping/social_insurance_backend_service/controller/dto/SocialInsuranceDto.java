@@ -1,331 +1,104 @@
 package jp.asatex.niuyuping.social_insurance_backend_service.controller.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import jp.asatex.niuyuping.social_insurance_backend_service.application.dto.SocialInsuranceApplicationDto;
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.dto.SocialInsuranceDomainDto;
+
 import java.math.BigDecimal;
-import java.util.Objects;
 
 /**
  * 社会保险金额查询结果 Controller DTO
+ * 不可变记录，费用结构体为 Controller 层自有的记录（JSON 结构与字段名保持不变），
+ * Domain 层的结构体调整不会直接改变接口响应；金额为不可变的 BigDecimal，映射时只引用不复制；
+ * 未指定事业类别时不输出 employmentInsurance 字段，响应与原接口完全一致
+ *
+ * @param employeeCost 雇员承担的费用
+ * @param employerCost 雇主承担的费用
+ * @param employmentInsurance 雇用保险费（未指定事业类别时为 null）
  */
-public class SocialInsuranceDto {
-
-    /**
-     * 雇员承担的费用
-     */
-    private EmployeeCost employeeCost;
+public record SocialInsuranceDto(EmployeeCost employeeCost,
+                                 EmployerCost employerCost,
+                                 @JsonInclude(JsonInclude.Include.NON_NULL)
+                                 EmploymentInsuranceCost employmentInsurance) {
 
     /**
-     * 雇主承担的费用
+     * 由 Application DTO 创建
+     *
+     * @param applicationDto Application DTO
+     * @return Controller DTO
      */
-    private EmployerCost employerCost;
-
-    // 默认构造函数
-    public SocialInsuranceDto() {
-    }
-
-    // 全参构造函数
-    public SocialInsuranceDto(EmployeeCost employeeCost, EmployerCost employerCost) {
-        this.employeeCost = employeeCost;
-        this.employerCost = employerCost;
-    }
-
-    // Getter 和 Setter 方法（流式风格）
-    public EmployeeCost getEmployeeCost() {
-        return employeeCost;
-    }
-
-    public SocialInsuranceDto setEmployeeCost(EmployeeCost employeeCost) {
-        this.employeeCost = employeeCost;
-        return this;
-    }
-
-    public EmployerCost getEmployerCost() {
-        return employerCost;
-    }
-
-    public SocialInsuranceDto setEmployerCost(EmployerCost employerCost) {
-        this.employerCost = employerCost;
-        return this;
-    }
-
-    // 流式编程风格的 with 方法，返回新实例
-    public SocialInsuranceDto withEmployeeCost(EmployeeCost employeeCost) {
-        return new SocialInsuranceDto(employeeCost, this.employerCost);
-    }
-
-    public SocialInsuranceDto withEmployerCost(EmployerCost employerCost) {
-        return new SocialInsuranceDto(this.employeeCost, employerCost);
-    }
-
-    // 流式编程风格的 builder 方法
-    public static SocialInsuranceDtoBuilder builder() {
-        return new SocialInsuranceDtoBuilder();
-    }
-
-    public static class SocialInsuranceDtoBuilder {
-        private EmployeeCost employeeCost;
-        private EmployerCost employerCost;
-
-        public SocialInsuranceDtoBuilder employeeCost(EmployeeCost employeeCost) {
-            this.employeeCost = employeeCost;
-            return this;
-        }
-
-        public SocialInsuranceDtoBuilder employerCost(EmployerCost employerCost) {
-            this.employerCost = employerCost;
-            return this;
-        }
-
-        public SocialInsuranceDto build() {
-            return new SocialInsuranceDto(employeeCost, employerCost);
-        }
+    public static SocialInsuranceDto of(SocialInsuranceApplicationDto applicationDto) {
+        return new SocialInsuranceDto(EmployeeCost.of(applicationDto.employeeCost()),
+                EmployerCost.of(applicationDto.employerCost()),
+                EmploymentInsuranceCost.of(applicationDto.employmentInsurance()));
     }
 
     /**
      * 雇员承担的费用结构体
+     *
+     * @param healthCostWithNoCare 无介护健康保险金额
+     * @param careCost 介护保险金额
+     * @param pension 厚生年金金额
      */
-    public static class EmployeeCost {
-        /**
-         * 无介护健康保险金额
-         */
-        private BigDecimal healthCostWithNoCare;
+    public record EmployeeCost(BigDecimal healthCostWithNoCare, BigDecimal careCost, BigDecimal pension) {
 
         /**
-         * 介护保险金额
+         * 由 Domain 层的费用结构体创建
+         *
+         * @param cost Domain 层的雇员费用（可为 null）
+         * @return 雇员费用（cost 为 null 时返回 null）
          */
-        private BigDecimal careCost;
-
-        /**
-         * 厚生年金金额
-         */
-        private BigDecimal pension;
-
-        // 默认构造函数
-        public EmployeeCost() {
-        }
-
-        // 全参构造函数
-        public EmployeeCost(BigDecimal healthCostWithNoCare, BigDecimal careCost, BigDecimal pension) {
-            this.healthCostWithNoCare = healthCostWithNoCare;
-            this.careCost = careCost;
-            this.pension = pension;
-        }
-
-        // Getter 和 Setter 方法（流式风格）
-        public BigDecimal getHealthCostWithNoCare() {
-            return healthCostWithNoCare;
-        }
-
-        public EmployeeCost setHealthCostWithNoCare(BigDecimal healthCostWithNoCare) {
-            this.healthCostWithNoCare = healthCostWithNoCare;
-            return this;
-        }
-
-        public BigDecimal getCareCost() {
-            return careCost;
-        }
-
-        public EmployeeCost setCareCost(BigDecimal careCost) {
-            this.careCost = careCost;
-            return this;
-        }
-
-        public BigDecimal getPension() {
-            return pension;
-        }
-
-        public EmployeeCost setPension(BigDecimal pension) {
-            this.pension = pension;
-            return this;
-        }
-
-        // 流式编程风格的 builder 方法
-        public static EmployeeCostBuilder builder() {
-            return new EmployeeCostBuilder();
-        }
-
-        public static class EmployeeCostBuilder {
-            private BigDecimal healthCostWithNoCare;
-            private BigDecimal careCost;
-            private BigDecimal pension;
-
-            public EmployeeCostBuilder healthCostWithNoCare(BigDecimal healthCostWithNoCare) {
-                this.healthCostWithNoCare = healthCostWithNoCare;
-                return this;
+        public static EmployeeCost of(SocialInsuranceDomainDto.EmployeeCost cost) {
+            if (cost == null) {
+                return null;
             }
-
-            public EmployeeCostBuilder careCost(BigDecimal careCost) {
-                this.careCost = careCost;
-                return this;
-            }
-
-            public EmployeeCostBuilder pension(BigDecimal pension) {
-                this.pension = pension;
-                return this;
-            }
-
-            public EmployeeCost build() {
-                return new EmployeeCost(healthCostWithNoCare, careCost, pension);
-            }
-        }
-
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (o == null || getClass() != o.getClass()) return false;
-            EmployeeCost that = (EmployeeCost) o;
-            return Objects.equals(healthCostWithNoCare, that.healthCostWithNoCare) &&
-                    Objects.equals(careCost, that.careCost) &&
-                    Objects.equals(pension, that.pension);
-        }
-
-        @Override
-        public int hashCode() {
-            return Objects.hash(healthCostWithNoCare, careCost, pension);
-        }
-
-        @Override
-        public String toString() {
-            return "EmployeeCost{" +
-                    "healthCostWithNoCare=" + healthCostWithNoCare +
-                    ", careCost=" + careCost +
-                    ", pension=" + pension +
-                    '}';
+            return new EmployeeCost(cost.healthCostWithNoCare(), cost.careCost(), cost.pension());
         }
     }
 
     /**
      * 雇主承担的费用结构体
+     *
+     * @param healthCostWithNoCare 无介护健康保险金额
+     * @param careCost 介护保险金额
+     * @param pension 厚生年金金额
      */
-    public static class EmployerCost {
-        /**
-         * 无介护健康保险金额
-         */
-        private BigDecimal healthCostWithNoCare;
-
-        /**
-         * 介护保险金额
-         */
-        private BigDecimal careCost;
+    public record EmployerCost(BigDecimal healthCostWithNoCare, BigDecimal careCost, BigDecimal pension) {
 
         /**
-         * 厚生年金金额
+         * 由 Domain 层的费用结构体创建
+         *
+         * @param cost Domain 层的雇主费用（可为 null）
+         * @return 雇主费用（cost 为 null 时返回 null）
          */
-        private BigDecimal pension;
-
-        // 默认构造函数
-        public EmployerCost() {
-        }
-
-        // 全参构造函数
-        public EmployerCost(BigDecimal healthCostWithNoCare, BigDecimal careCost, BigDecimal pension) {
-            this.healthCostWithNoCare = healthCostWithNoCare;
-            this.careCost = careCost;
-            this.pension = pension;
-        }
-
-        // Getter 和 Setter 方法（流式风格）
-        public BigDecimal getHealthCostWithNoCare() {
-            return healthCostWithNoCare;
-        }
-
-        public EmployerCost setHealthCostWithNoCare(BigDecimal healthCostWithNoCare) {
-            this.healthCostWithNoCare = healthCostWithNoCare;
-            return this;
-        }
-
-        public BigDecimal getCareCost() {
-            return careCost;
-        }
-
-        public EmployerCost setCareCost(BigDecimal careCost) {
-            this.careCost = careCost;
-            return this;
-        }
-
-        public BigDecimal getPension() {
-            return pension;
-        }
-
-        public EmployerCost setPension(BigDecimal pension) {
-            this.pension = pension;
-            return this;
-        }
-
-        // 流式编程风格的 builder 方法
-        public static EmployerCostBuilder builder() {
-            return new EmployerCostBuilder();
-        }
-
-        public static class EmployerCostBuilder {
-            private BigDecimal healthCostWithNoCare;
-            private BigDecimal careCost;
-            private BigDecimal pension;
-
-            public EmployerCostBuilder healthCostWithNoCare(BigDecimal healthCostWithNoCare) {
-                this.healthCostWithNoCare = healthCostWithNoCare;
-                return this;
-            }
-
-            public EmployerCostBuilder careCost(BigDecimal careCost) {
-                this.careCost = careCost;
-                return this;
-            }
-
-            public EmployerCostBuilder pension(BigDecimal pension) {
-                this.pension = pension;
-                return this;
+        public static EmployerCost of(SocialInsuranceDomainDto.EmployerCost cost) {
+            if (cost == null) {
+                return null;
             }
-
-            public EmployerCost build() {
-                return new EmployerCost(healthCostWithNoCare, careCost, pension);
-            }
-        }
-
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (o == null || getClass() != o.getClass()) return false;
-            EmployerCost that = (EmployerCost) o;
-            return Objects.equals(healthCostWithNoCare, that.healthCostWithNoCare) &&
-                    Objects.equals(careCost, that.careCost) &&
-                    Objects.equals(pension, that.pension);
-        }
-
-        @Override
-        public int hashCode() {
-            return Objects.hash(healthCostWithNoCare, careCost, pension);
-        }
-
-        @Override
-        public String toString() {
-            return "EmployerCost{" +
-                    "healthCostWithNoCare=" + healthCostWithNoCare +
-                    ", careCost=" + careCost +
-                    ", pension=" + pension +
-                    '}';
+            return new EmployerCost(cost.healthCostWithNoCare(), cost.careCost(), cost.pension());
         }
     }
 
-    @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        SocialInsuranceDto that = (SocialInsuranceDto) o;
-        return Objects.equals(employeeCost, that.employeeCost) &&
-                Objects.equals(employerCost, that.employerCost);
-    }
-
-    @Override
-    public int hashCode() {
-        return Objects.hash(employeeCost, employerCost);
-    }
+    /**
+     * 雇用保险费结构体
+     *
+     * @param industry 事业类别
+     * @param employeeCost 雇员负担的雇用保险费
+     * @param employerCost 雇主负担的雇用保险费
+     */
+    public record EmploymentInsuranceCost(String industry, BigDecimal employeeCost, BigDecimal employerCost) {
 
-    @Override
-    public String toString() {
-        return "SocialInsuranceDto{" +
-                "employeeCost=" + employeeCost +
-                ", employerCost=" + employerCost +
-                '}';
+        /**
+         * 由 Domain 层的费用结构体创建
+         *
+         * @param cost Domain 层的雇用保险费（可为 null）
+         * @return 雇用保险费（cost 为 null 时返回 null）
+         */
+        public static EmploymentInsuranceCost of(SocialInsuranceDomainDto.EmploymentInsuranceCost cost) {
+            if (cost == null) {
+                return null;
+            }
+            return new EmploymentInsuranceCost(cost.industry(), cost.employeeCost(), cost.employerCost());
+        }
     }
 }
-
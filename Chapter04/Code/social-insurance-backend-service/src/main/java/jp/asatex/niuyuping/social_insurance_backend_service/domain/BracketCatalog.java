@@ -0,0 +1,160 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.domain;
+
+import jp.asatex.niuyuping.social_insurance_backend_service.entity.PremiumBracket;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 保险费等级表目录（不可变）
+ * 按都道府县和生效期间组织全部等级表，每张等级表对应一个 BracketIndex；
+ * 查找时先按都道府县取得时间线，再在按生效日排序的 long[] 上二分查找基准日所在的期间，
+ * 整个过程为 O(log n)，不访问数据库
+ */
+public final class BracketCatalog {
+
+    /**
+     * 未指定都道府县时使用的默认值
+     */
+    public static final String DEFAULT_PREFECTURE = "kanagawa";
+
+    /**
+     * 确定“当天”所用的时区
+     */
+    public static final ZoneId ZONE = ZoneId.of("Asia/Tokyo");
+
+    private static final BracketCatalog EMPTY = new BracketCatalog(Map.of(), 0, 0);
+
+    private final Map<String, Timeline> timelines;
+
+    /**
+     * 等级表数量
+     */
+    private final int tableCount;
+
+    /**
+     * 全部等级表的等级总数
+     */
+    private final int size;
+
+    private BracketCatalog(Map<String, Timeline> timelines, int tableCount, int size) {
+        this.timelines = timelines;
+        this.tableCount = tableCount;
+        this.size = size;
+    }
+
+    /**
+     * 空目录，表示等级数据尚未加载
+     *
+     * @return 空目录
+     */
+    public static BracketCatalog empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 根据全部等级构建目录
+     * 同一都道府县、同一生效日的等级组成一张等级表，其失效日取该表中第一条等级的 valid_to
+     *
+     * @param premiumBrackets 保险费等级列表（顺序任意）
+     * @return 不可变目录
+     */
+    public static BracketCatalog of(List<PremiumBracket> premiumBrackets) {
+        if (premiumBrackets.isEmpty()) {
+            return EMPTY;
+        }
+        Map<String, TreeMap<LocalDate, List<PremiumBracket>>> grouped = new HashMap<>();
+        for (PremiumBracket bracket : premiumBrackets) {
+            grouped.computeIfAbsent(bracket.getPrefecture(), prefecture -> new TreeMap<>())
+                    .computeIfAbsent(bracket.getValidFrom(), validFrom -> new ArrayList<>())
+                    .add(bracket);
+        }
+        Map<String, Timeline> timelines = new HashMap<>();
+        int tableCount = 0;
+        for (Map.Entry<String, TreeMap<LocalDate, List<PremiumBracket>>> entry : grouped.entrySet()) {
+            timelines.put(entry.getKey(), Timeline.of(entry.getValue()));
+            tableCount += entry.getValue().size();
+        }
+        return new BracketCatalog(Map.copyOf(timelines), tableCount, premiumBrackets.size());
+    }
+
+    /**
+     * 查找指定都道府县在基准日适用的等级表
+     *
+     * @param prefecture 都道府县
+     * @param asOf 基准日
+     * @return 等级表索引，没有适用的等级表时返回 null
+     */
+    public BracketIndex find(String prefecture, LocalDate asOf) {
+        Timeline timeline = timelines.get(prefecture);
+        return timeline == null ? null : timeline.find(asOf.toEpochDay());
+    }
+
+    public int tableCount() {
+        return tableCount;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 单个都道府县的等级表时间线，各期间按生效日升序排列
+     */
+    private static final class Timeline {
+
+        private final long[] validFrom;
+        private final long[] validTo;
+        private final BracketIndex[] indexes;
+
+        private Timeline(long[] validFrom, long[] validTo, BracketIndex[] indexes) {
+            this.validFrom = validFrom;
+            this.validTo = validTo;
+            this.indexes = indexes;
+        }
+
+        static Timeline of(TreeMap<LocalDate, List<PremiumBracket>> periods) {
+            int size = periods.size();
+            long[] validFrom = new long[size];
+            long[] validTo = new long[size];
+            BracketIndex[] indexes = new BracketIndex[size];
+            int i = 0;
+            for (Map.Entry<LocalDate, List<PremiumBracket>> period : periods.entrySet()) {
+                LocalDate end = period.getValue().get(0).getValidTo();
+                validFrom[i] = period.getKey().toEpochDay();
+                validTo[i] = end == null ? Long.MAX_VALUE : end.toEpochDay();
+                indexes[i] = BracketIndex.of(period.getValue());
+                i++;
+            }
+            return new Timeline(validFrom, validTo, indexes);
+        }
+
+        /**
+         * 二分查找 valid_from <= day < valid_to 的期间
+         */
+        BracketIndex find(long day) {
+            int low = 0;
+            int high = validFrom.length - 1;
+            int candidate = -1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (validFrom[mid] <= day) {
+                    candidate = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return candidate >= 0 && day < validTo[candidate] ? indexes[candidate] : null;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.domain;
+
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.dto.SocialInsuranceDomainDto;
+import jp.asatex.niuyuping.social_insurance_backend_service.entity.PremiumBracket;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * 保险费等级内存索引（不可变）
+ * 将全部等级按最小金额排序后存入原始 int[] 边界数组，
+ * 通过二分查找把月薪解析为等级，查询过程不访问数据库也不分配对象；
+ * 各等级的保险费同时以“钱”（1/100 日元）为单位预先转换为 long[]，供定点计算引擎直接使用。
+ * 查询结果只取决于等级和是否缴纳介护保险，因此构建索引时预先计算全部 2 × 等级数 个结果，
+ * 查询时按位置直接返回；预计算结果为不可变记录，在各请求之间共享。
+ * 预计算结果的编码形式（例如响应 JSON 字节）按同样的位置在首次使用时填充，随索引重建一起丢弃
+ */
+public final class BracketIndex {
+
+    private static final BracketIndex EMPTY = new BracketIndex(new int[0], new int[0], new PremiumBracket[0],
+            new long[0], new long[0], new long[0], new SocialInsuranceDomainDto[0]);
+
+    /**
+     * 各等级的最小金额（含），升序排列
+     */
+    private final int[] minAmounts;
+
+    /**
+     * 各等级的最大金额（不含），与 minAmounts 一一对应
+     */
+    private final int[] maxAmounts;
+
+    /**
+     * 与边界数组下标对应的等级实体
+     */
+    private final PremiumBracket[] brackets;
+
+    /**
+     * 健康保险费（无护理），单位：钱
+     */
+    private final long[] healthNoCareSen;
+
+    /**
+     * 健康保险费（有护理），单位：钱
+     */
+    private final long[] healthCareSen;
+
+    /**
+     * 厚生年金保险费，单位：钱
+     */
+    private final long[] pensionSen;
+
+    /**
+     * 预计算的查询结果，下标为 位置 × 2 +（缴纳介护保险 ? 1 : 0）
+     */
+    private final SocialInsuranceDomainDto[] results;
+
+    /**
+     * 预计算结果的编码形式，下标与 results 相同，首次使用时填充
+     */
+    private final AtomicReferenceArray<byte[]> encodedResults;
+
+    private BracketIndex(int[] minAmounts, int[] maxAmounts, PremiumBracket[] brackets,
+                         long[] healthNoCareSen, long[] healthCareSen, long[] pensionSen,
+                         SocialInsuranceDomainDto[] results) {
+        this.minAmounts = minAmounts;
+        this.maxAmounts = maxAmounts;
+        this.brackets = brackets;
+        this.healthNoCareSen = healthNoCareSen;
+        this.healthCareSen = healthCareSen;
+        this.pensionSen = pensionSen;
+        this.results = results;
+        this.encodedResults = new AtomicReferenceArray<>(results.length);
+    }
+
+    /**
+     * 空索引，表示等级数据尚未加载
+     *
+     * @return 空索引
+     */
+    public static BracketIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 根据等级列表构建索引
+     *
+     * @param premiumBrackets 保险费等级列表（顺序任意）
+     * @return 不可变索引
+     */
+    public static BracketIndex of(List<PremiumBracket> premiumBrackets) {
+        if (premiumBrackets.isEmpty()) {
+            return EMPTY;
+        }
+        List<PremiumBracket> sorted = new ArrayList<>(premiumBrackets);
+        sorted.sort(Comparator.comparing(PremiumBracket::getMinAmount));
+
+        int size = sorted.size();
+        int[] minAmounts = new int[size];
+        int[] maxAmounts = new int[size];
+        PremiumBracket[] brackets = new PremiumBracket[size];
+        long[] healthNoCareSen = new long[size];
+        long[] healthCareSen = new long[size];
+        long[] pensionSen = new long[size];
+        SocialInsuranceDomainDto[] results = new SocialInsuranceDomainDto[size * 2];
+        for (int i = 0; i < size; i++) {
+            PremiumBracket bracket = sorted.get(i);
+            minAmounts[i] = bracket.getMinAmount();
+            maxAmounts[i] = bracket.getMaxAmount();
+            brackets[i] = bracket;
+            healthNoCareSen[i] = FixedPointPremiumCalculator.toSen(bracket.getHealthNoCare());
+            healthCareSen[i] = FixedPointPremiumCalculator.toSen(bracket.getHealthCare());
+            pensionSen[i] = FixedPointPremiumCalculator.toSen(bracket.getPension());
+            results[resultSlot(i, false)] = FixedPointPremiumCalculator.calculate(
+                    healthNoCareSen[i], healthCareSen[i], pensionSen[i], false);
+            results[resultSlot(i, true)] = FixedPointPremiumCalculator.calculate(
+                    healthNoCareSen[i], healthCareSen[i], pensionSen[i], true);
+        }
+        return new BracketIndex(minAmounts, maxAmounts, brackets, healthNoCareSen, healthCareSen, pensionSen,
+                results);
+    }
+
+    /**
+     * 二分查找金额所在的等级位置
+     * 查找 min_amount <= amount < max_amount 的等级
+     *
+     * @param amount 金额
+     * @return 等级位置，未找到时返回 -1
+     */
+    public int indexOf(int amount) {
+        int low = 0;
+        int high = minAmounts.length - 1;
+        int candidate = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (minAmounts[mid] <= amount) {
+                candidate = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return candidate >= 0 && amount < maxAmounts[candidate] ? candidate : -1;
+    }
+
+    /**
+     * 获取指定位置的等级
+     *
+     * @param position 等级位置（由 indexOf 返回）
+     * @return 保险费等级实体
+     */
+    public PremiumBracket bracketAt(int position) {
+        return brackets[position];
+    }
+
+    /**
+     * 获取指定位置等级的最小金额（含）
+     *
+     * @param position 等级位置
+     * @return 最小金额
+     */
+    public int minAmountAt(int position) {
+        return minAmounts[position];
+    }
+
+    /**
+     * 获取指定位置等级的最大金额（不含）
+     *
+     * @param position 等级位置
+     * @return 最大金额
+     */
+    public int maxAmountAt(int position) {
+        return maxAmounts[position];
+    }
+
+    /**
+     * 获取预计算的查询结果
+     *
+     * @param position 等级位置（由 indexOf 返回）
+     * @param careEligible 是否需要缴纳介护保险
+     * @return 社会保险金额DTO（共享的不可变实例）
+     */
+    public SocialInsuranceDomainDto resultAt(int position, boolean careEligible) {
+        return results[resultSlot(position, careEligible)];
+    }
+
+    /**
+     * 获取预计算结果的编码形式，该位置首次使用时通过 encoder 编码并保存
+     * 每个位置最多保存 1 份，编码内容只取决于预计算结果；并发首次使用时可能重复编码，结果相同
+     *
+     * @param position 等级位置（由 indexOf 返回）
+     * @param careEligible 是否需要缴纳介护保险
+     * @param encoder 编码方式（同一索引只应使用一种编码）
+     * @return 编码后的字节（共享数组，不得修改）
+     */
+    public byte[] encodedResultAt(int position, boolean careEligible,
+                                  Function<SocialInsuranceDomainDto, byte[]> encoder) {
+        int slot = resultSlot(position, careEligible);
+        byte[] encoded = encodedResults.get(slot);
+        if (encoded == null) {
+            encoded = encoder.apply(results[slot]);
+            encodedResults.lazySet(slot, encoded);
+        }
+        return encoded;
+    }
+
+    private static int resultSlot(int position, boolean careEligible) {
+        return (position << 1) | (careEligible ? 1 : 0);
+    }
+
+    public long healthNoCareSen(int position) {
+        return healthNoCareSen[position];
+    }
+
+    public long healthCareSen(int position) {
+        return healthCareSen[position];
+    }
+
+    public long pensionSen(int position) {
+        return pensionSen[position];
+    }
+
+    public int size() {
+        return brackets.length;
+    }
+
+    public boolean isEmpty() {
+        return brackets.length == 0;
+    }
+}
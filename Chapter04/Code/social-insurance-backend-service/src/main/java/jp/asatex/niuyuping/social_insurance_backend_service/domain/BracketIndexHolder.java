@@ -0,0 +1,94 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.domain;
+
+import jp.asatex.niuyuping.social_insurance_backend_service.repository.PremiumBracketRepository;
+import jp.asatex.niuyuping.social_insurance_backend_service.repository.impl.PremiumBracketChangeNotifications;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 保险费等级索引持有者
+ * 应用启动后从数据库加载全部等级，按都道府县和生效期间构建 BracketCatalog，通过原子引用整体替换；
+ * 收到数据变更通知后重新构建索引，保证多个节点之间的数据一致；初始加载与通知触发的重建串行执行
+ */
+@Component
+public class BracketIndexHolder implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(BracketIndexHolder.class);
+
+    private final PremiumBracketRepository premiumBracketRepository;
+    private final PremiumBracketChangeNotifications premiumBracketChangeNotifications;
+    private final PremiumBracketMetrics premiumBracketMetrics;
+    private final SocialInsuranceResultCache socialInsuranceResultCache;
+    private final AtomicReference<BracketCatalog> current = new AtomicReference<>(BracketCatalog.empty());
+    private final Disposable.Swap subscription = Disposables.swap();
+
+    public BracketIndexHolder(PremiumBracketRepository premiumBracketRepository,
+                              PremiumBracketChangeNotifications premiumBracketChangeNotifications,
+                              PremiumBracketMetrics premiumBracketMetrics,
+                              SocialInsuranceResultCache socialInsuranceResultCache) {
+        this.premiumBracketRepository = premiumBracketRepository;
+        this.premiumBracketChangeNotifications = premiumBracketChangeNotifications;
+        this.premiumBracketMetrics = premiumBracketMetrics;
+        this.socialInsuranceResultCache = socialInsuranceResultCache;
+        premiumBracketMetrics.registerIndexSize(() -> current().size());
+    }
+
+    /**
+     * 获取当前等级表目录
+     *
+     * @return 当前目录，尚未加载时为空目录
+     */
+    public BracketCatalog current() {
+        return current.get();
+    }
+
+    /**
+     * 从数据库重新加载全部等级并替换当前目录，同时清空结果缓存
+     *
+     * @return Mono<BracketCatalog> 新目录
+     */
+    public Mono<BracketCatalog> reload() {
+        return premiumBracketMetrics.timeFindAll(premiumBracketRepository.findAllOrderByStdRemAsc().collectList())
+                .map(BracketCatalog::of)
+                .doOnNext(catalog -> {
+                    current.set(catalog);
+                    socialInsuranceResultCache.invalidateAll();
+                });
+    }
+
+    /**
+     * 应用启动完成后订阅数据变更通知，并在同一个串行流中加载索引
+     * 每次 LISTEN 建立后的 SUBSCRIBED 信号触发初始加载（以及断线重连后的补齐），与变更通知一样经由 concatMap 逐个执行，
+     * 旧的加载结果不会覆盖较新的目录；不支持通知的数据源以一次 SUBSCRIBED 信号代替。
+     * 加载完成前的查询会回退到数据库；重建期间到达的多次变更只会触发一次重建
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        subscription.update(premiumBracketChangeNotifications.listen()
+                .switchIfEmpty(Flux.just(PremiumBracketChangeNotifications.SUBSCRIBED))
+                .onBackpressureLatest()
+                .concatMap(operation -> reload()
+                        .doOnNext(catalog -> log.info("保险费等级索引已加载（{}），共 {} 张等级表、{} 个等级",
+                                operation, catalog.tableCount(), catalog.size()))
+                        .onErrorResume(error -> {
+                            log.warn("保险费等级索引加载失败，继续使用当前索引（尚未加载时查询回退到数据库）", error);
+                            return Mono.empty();
+                        }), 1)
+                .subscribe());
+    }
+
+    @Override
+    public void destroy() {
+        subscription.dispose();
+    }
+}
@@ -0,0 +1,44 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.domain;
+
+/**
+ * 月薪没有对应保险费等级的异常
+ * 属于可预期的输入错误：不采集堆栈（fillInStackTrace 是抛出异常的主要开销），
+ * 消息在首次读取时才拼接，大量非法输入时的开销与正常请求相当
+ */
+public class BracketNotFoundException extends IllegalArgumentException {
+
+    private final int monthlySalary;
+
+    private String message;
+
+    public BracketNotFoundException(int monthlySalary) {
+        this.monthlySalary = monthlySalary;
+    }
+
+    /**
+     * 生成错误消息（批量查询的单条错误也使用同一格式）
+     *
+     * @param monthlySalary 月薪
+     * @return 错误消息
+     */
+    public static String messageFor(int monthlySalary) {
+        return "未找到月薪 " + monthlySalary + " 对应的保险费等级";
+    }
+
+    public int getMonthlySalary() {
+        return monthlySalary;
+    }
+
+    @Override
+    public String getMessage() {
+        if (message == null) {
+            message = messageFor(monthlySalary);
+        }
+        return message;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,61 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.domain;
+
+import jp.asatex.niuyuping.social_insurance_backend_service.repository.EmploymentInsuranceRateRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 雇用保险费率表持有者
+ * 应用启动后从数据库加载全部费率并构建 EmploymentInsuranceRateTable，通过原子引用整体替换；
+ * 费率按年度随迁移脚本更新，迁移在服务实例滚动发布前执行，因此只在启动时加载
+ */
+@Component
+public class EmploymentInsuranceRateHolder {
+
+    private static final Logger log = LoggerFactory.getLogger(EmploymentInsuranceRateHolder.class);
+
+    private final EmploymentInsuranceRateRepository employmentInsuranceRateRepository;
+    private final AtomicReference<EmploymentInsuranceRateTable> current =
+            new AtomicReference<>(EmploymentInsuranceRateTable.empty());
+
+    public EmploymentInsuranceRateHolder(EmploymentInsuranceRateRepository employmentInsuranceRateRepository) {
+        this.employmentInsuranceRateRepository = employmentInsuranceRateRepository;
+    }
+
+    /**
+     * 获取当前费率表
+     *
+     * @return 当前费率表，尚未加载时为空费率表
+     */
+    public EmploymentInsuranceRateTable current() {
+        return current.get();
+    }
+
+    /**
+     * 从数据库重新加载全部费率并替换当前费率表
+     *
+     * @return Mono<EmploymentInsuranceRateTable> 新费率表
+     */
+    public Mono<EmploymentInsuranceRateTable> reload() {
+        return employmentInsuranceRateRepository.findAll().collectList()
+                .map(EmploymentInsuranceRateTable::of)
+                .doOnNext(current::set);
+    }
+
+    /**
+     * 应用启动完成后加载费率表
+     * 加载完成前的查询会先触发一次加载
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload().subscribe(
+                table -> log.info("雇用保险费率表加载完成，共 {} 条费率", table.size()),
+                error -> log.warn("雇用保险费率表加载失败，将在首次查询时重试", error));
+    }
+}
@@ -0,0 +1,53 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.domain;
+
+import java.time.LocalDate;
+
+/**
+ * 指定事业类别在基准日没有适用的雇用保险费率的异常
+ * 与 RateTableNotFoundException 相同，属于可预期的输入错误：不采集堆栈，消息在首次读取时才拼接
+ */
+public class EmploymentInsuranceRateNotFoundException extends IllegalArgumentException {
+
+    private final String industry;
+
+    private final LocalDate asOf;
+
+    private String message;
+
+    public EmploymentInsuranceRateNotFoundException(String industry, LocalDate asOf) {
+        this.industry = industry;
+        this.asOf = asOf;
+    }
+
+    /**
+     * 生成错误消息
+     *
+     * @param industry 事业类别
+     * @param asOf 基准日
+     * @return 错误消息
+     */
+    public static String messageFor(String industry, LocalDate asOf) {
+        return "未找到事业类别 " + industry + " 在 " + asOf + " 适用的雇用保险费率";
+    }
+
+    public String getIndustry() {
+        return industry;
+    }
+
+    public LocalDate getAsOf() {
+        return asOf;
+    }
+
+    @Override
+    public String getMessage() {
+        if (message == null) {
+            message = messageFor(industry, asOf);
+        }
+        return message;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
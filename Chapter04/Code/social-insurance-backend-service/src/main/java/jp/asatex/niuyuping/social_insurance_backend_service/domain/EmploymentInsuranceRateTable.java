@@ -0,0 +1,173 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.domain;
+
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.dto.SocialInsuranceDomainDto;
+import jp.asatex.niuyuping.social_insurance_backend_service.entity.EmploymentInsuranceRate;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 雇用保险费率表（不可变）
+ * 按事业类别组织费率的时间线，费率在构建时预先转换为 ppm（百万分比）的 long 值；
+ * 查找时先按事业类别取得时间线，再在按生效日排序的 long[] 上二分查找基准日所在的期间，
+ * 计算只做整数乘除，每次查询只分配结果本身
+ */
+public final class EmploymentInsuranceRateTable {
+
+    private static final EmploymentInsuranceRateTable EMPTY = new EmploymentInsuranceRateTable(Map.of(), 0);
+
+    private final Map<String, Timeline> timelines;
+
+    /**
+     * 费率条数（事业类别 × 生效期间）
+     */
+    private final int size;
+
+    private EmploymentInsuranceRateTable(Map<String, Timeline> timelines, int size) {
+        this.timelines = timelines;
+        this.size = size;
+    }
+
+    /**
+     * 空费率表，表示费率尚未加载
+     *
+     * @return 空费率表
+     */
+    public static EmploymentInsuranceRateTable empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 根据全部费率构建费率表
+     *
+     * @param rates 雇用保险费率列表（顺序任意）
+     * @return 不可变费率表
+     */
+    public static EmploymentInsuranceRateTable of(List<EmploymentInsuranceRate> rates) {
+        if (rates.isEmpty()) {
+            return EMPTY;
+        }
+        Map<String, TreeMap<LocalDate, EmploymentInsuranceRate>> grouped = new HashMap<>();
+        for (EmploymentInsuranceRate rate : rates) {
+            grouped.computeIfAbsent(rate.getIndustry(), industry -> new TreeMap<>())
+                    .put(rate.getValidFrom(), rate);
+        }
+        Map<String, Timeline> timelines = new HashMap<>();
+        for (Map.Entry<String, TreeMap<LocalDate, EmploymentInsuranceRate>> entry : grouped.entrySet()) {
+            timelines.put(entry.getKey(), Timeline.of(entry.getValue()));
+        }
+        return new EmploymentInsuranceRateTable(Map.copyOf(timelines), rates.size());
+    }
+
+    /**
+     * 查找指定事业类别在基准日适用的费率
+     *
+     * @param industry 事业类别
+     * @param asOf 基准日
+     * @return 费率，没有适用的费率时返回 null
+     */
+    public Rate find(String industry, LocalDate asOf) {
+        Timeline timeline = timelines.get(industry);
+        return timeline == null ? null : timeline.find(asOf.toEpochDay());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 单个事业类别在某一生效期间内的费率
+     */
+    public static final class Rate {
+
+        private final String industry;
+
+        /**
+         * 雇员负担费率，单位：ppm
+         */
+        private final long employeePpm;
+
+        /**
+         * 雇主负担费率，单位：ppm
+         */
+        private final long employerPpm;
+
+        private Rate(String industry, long employeePpm, long employerPpm) {
+            this.industry = industry;
+            this.employeePpm = employeePpm;
+            this.employerPpm = employerPpm;
+        }
+
+        /**
+         * 计算工资对应的雇用保险费
+         * 雇员、雇主按各自的费率分别计算，按 HALF_UP 保留到“钱”（与健康保险等金额的精度一致）
+         *
+         * @param wage 工资（日元）
+         * @return 雇用保险费
+         */
+        public SocialInsuranceDomainDto.EmploymentInsuranceCost calculate(int wage) {
+            return new SocialInsuranceDomainDto.EmploymentInsuranceCost(industry,
+                    FixedPointPremiumCalculator.toYen(FixedPointPremiumCalculator.premiumSen(wage, employeePpm)),
+                    FixedPointPremiumCalculator.toYen(FixedPointPremiumCalculator.premiumSen(wage, employerPpm)));
+        }
+    }
+
+    /**
+     * 单个事业类别的费率时间线，各期间按生效日升序排列
+     */
+    private static final class Timeline {
+
+        private final long[] validFrom;
+        private final long[] validTo;
+        private final Rate[] rates;
+
+        private Timeline(long[] validFrom, long[] validTo, Rate[] rates) {
+            this.validFrom = validFrom;
+            this.validTo = validTo;
+            this.rates = rates;
+        }
+
+        static Timeline of(TreeMap<LocalDate, EmploymentInsuranceRate> periods) {
+            int size = periods.size();
+            long[] validFrom = new long[size];
+            long[] validTo = new long[size];
+            Rate[] rates = new Rate[size];
+            int i = 0;
+            for (EmploymentInsuranceRate rate : periods.values()) {
+                validFrom[i] = rate.getValidFrom().toEpochDay();
+                validTo[i] = rate.getValidTo() == null ? Long.MAX_VALUE : rate.getValidTo().toEpochDay();
+                rates[i] = new Rate(rate.getIndustry(),
+                        FixedPointPremiumCalculator.perMilleToPpm(rate.getEmployeeRate()),
+                        FixedPointPremiumCalculator.perMilleToPpm(rate.getEmployerRate()));
+                i++;
+            }
+            return new Timeline(validFrom, validTo, rates);
+        }
+
+        /**
+         * 二分查找 valid_from <= day < valid_to 的期间
+         */
+        Rate find(long day) {
+            int low = 0;
+            int high = validFrom.length - 1;
+            int candidate = -1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (validFrom[mid] <= day) {
+                    candidate = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return candidate >= 0 && day < validTo[candidate] ? rates[candidate] : null;
+        }
+    }
+}
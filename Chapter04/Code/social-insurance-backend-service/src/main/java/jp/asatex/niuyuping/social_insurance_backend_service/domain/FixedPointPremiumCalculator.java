@@ -0,0 +1,131 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.domain;
+
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.dto.SocialInsuranceDomainDto;
+import jp.asatex.niuyuping.social_insurance_backend_service.entity.PremiumBracket;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 定点整数保险费计算引擎
+ * 金额以 long 型的“钱”（1/100 日元）表示，折半与 HALF_UP 舍入全部使用整数运算，
+ * 结果与 BigDecimal 计算（乘以 0.5 后保留 2 位小数，HALF_UP）逐位一致
+ */
+public final class FixedPointPremiumCalculator {
+
+    /**
+     * 金额保留的小数位数
+     */
+    public static final int SCALE = 2;
+
+    /**
+     * 需要缴纳介护保险的最低年龄
+     */
+    public static final int CARE_INSURANCE_MIN_AGE = 40;
+
+    private FixedPointPremiumCalculator() {
+    }
+
+    /**
+     * 将日元金额转换为“钱”
+     *
+     * @param amount 日元金额（最多 2 位小数）
+     * @return 以“钱”表示的金额
+     * @throws ArithmeticException 金额超过 2 位小数时
+     */
+    public static long toSen(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    /**
+     * 将“钱”转换为保留 2 位小数的日元金额
+     *
+     * @param sen 以“钱”表示的金额
+     * @return 日元金额
+     */
+    public static BigDecimal toYen(long sen) {
+        return BigDecimal.valueOf(sen, SCALE);
+    }
+
+    /**
+     * 折半并按 HALF_UP 舍入到“钱”
+     * 奇数的一半恰好是 0.5 钱，HALF_UP 向远离零的方向进位
+     *
+     * @param sen 以“钱”表示的金额
+     * @return 折半后的金额
+     */
+    public static long halfUp(long sen) {
+        return sen >= 0 ? (sen + 1) / 2 : (sen - 1) / 2;
+    }
+
+    /**
+     * 将千分比费率转换为百万分比（ppm）
+     *
+     * @param perMille 千分比费率（最多 3 位小数）
+     * @return 以 ppm 表示的费率
+     * @throws ArithmeticException 费率超过 3 位小数时
+     */
+    public static long perMilleToPpm(BigDecimal perMille) {
+        return perMille.movePointRight(3).setScale(0, RoundingMode.UNNECESSARY).longValueExact();
+    }
+
+    /**
+     * 按费率计算工资的保险费，按 HALF_UP 舍入到“钱”
+     * 工资 × 100（钱）× 费率（ppm）/ 1,000,000 = 工资 × 费率 / 10,000
+     *
+     * @param wage 工资（日元）
+     * @param ratePpm 费率，单位：ppm
+     * @return 保险费，单位：钱
+     */
+    public static long premiumSen(int wage, long ratePpm) {
+        long scaled = wage * ratePpm;
+        return scaled >= 0 ? (scaled + 5_000) / 10_000 : (scaled - 5_000) / 10_000;
+    }
+
+    /**
+     * 判断是否需要缴纳介护保险
+     *
+     * @param age 年龄
+     * @return 年龄 >= 40 时为 true
+     */
+    public static boolean isCareEligible(Integer age) {
+        return age != null && age >= CARE_INSURANCE_MIN_AGE;
+    }
+
+    /**
+     * 根据保险费等级实体计算社会保险金额
+     *
+     * @param bracket 保险费等级实体
+     * @param careEligible 是否需要缴纳介护保险
+     * @return 社会保险金额DTO
+     */
+    public static SocialInsuranceDomainDto calculate(PremiumBracket bracket, boolean careEligible) {
+        return calculate(toSen(bracket.getHealthNoCare()), toSen(bracket.getHealthCare()),
+                toSen(bracket.getPension()), careEligible);
+    }
+
+    /**
+     * 计算社会保险金额
+     * 健康保险、介护保险、厚生年金的花费由雇员和雇主双方各承担50%，
+     * 双方金额相同，因此共用同一组不可变的 BigDecimal 实例
+     *
+     * @param healthNoCareSen 健康保险费（无护理），单位：钱
+     * @param healthCareSen 健康保险费（有护理），单位：钱
+     * @param pensionSen 厚生年金保险费，单位：钱
+     * @param careEligible 是否需要缴纳介护保险
+     * @return 社会保险金额DTO
+     */
+    public static SocialInsuranceDomainDto calculate(long healthNoCareSen, long healthCareSen, long pensionSen,
+                                                     boolean careEligible) {
+        // 介护保险金额 = 有介护健康保险金额 - 无介护健康保险金额（年龄 < 40岁时为 0）
+        long careSen = careEligible ? healthCareSen - healthNoCareSen : 0L;
+
+        BigDecimal healthCostWithNoCare = toYen(halfUp(healthNoCareSen));
+        BigDecimal careCost = toYen(halfUp(careSen));
+        BigDecimal pension = toYen(halfUp(pensionSen));
+
+        return new SocialInsuranceDomainDto(
+                new SocialInsuranceDomainDto.EmployeeCost(healthCostWithNoCare, careCost, pension),
+                new SocialInsuranceDomainDto.EmployerCost(healthCostWithNoCare, careCost, pension));
+    }
+}
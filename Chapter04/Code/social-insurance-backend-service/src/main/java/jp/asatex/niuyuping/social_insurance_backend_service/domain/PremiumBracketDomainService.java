@@ -1,6 +1,10 @@
 package jp.asatex.niuyuping.social_insurance_backend_service.domain;
 
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.dto.RateTableImportDomainDto;
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.dto.SocialInsuranceBatchDomainDto;
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.dto.SocialInsuranceCurvePointDomainDto;
 import jp.asatex.niuyuping.social_insurance_backend_service.domain.dto.SocialInsuranceDomainDto;
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.dto.SocialInsuranceQueryDomainDto;
 import jp.asatex.niuyuping.social_insurance_backend_service.entity.PremiumBracket;
 import jp.asatex.niuyuping.social_insurance_backend_service.repository.PremiumBracketRepository;
 import jp.asatex.niuyuping.social_insurance_backend_service.repository.impl.PremiumBracketRepositoryImpl;
@@ -9,7 +13,16 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
 
 /**
  * 保险费等级 Domain Service
@@ -18,13 +31,43 @@ import java.math.RoundingMode;
 @Service
 public class PremiumBracketDomainService {
 
+    /**
+     * 数据库回退路径上同时合并的查询键数上限（都道府县 × 基准日 × 月薪）
+     */
+    private static final int MAX_IN_FLIGHT_LOOKUPS = 10_000;
+
+    /**
+     * 单条保险费曲线的最大点数
+     */
+    private static final int MAX_CURVE_POINTS = 100_000;
+
+    /**
+     * 保险费的上限（premium_bracket 的保险费列为 NUMERIC(10, 2)）
+     */
+    private static final BigDecimal MAX_PREMIUM = new BigDecimal("99999999.99");
+
     private final PremiumBracketRepository premiumBracketRepository;
     private final PremiumBracketRepositoryImpl premiumBracketRepositoryImpl;
+    private final BracketIndexHolder bracketIndexHolder;
+    private final PremiumBracketMetrics premiumBracketMetrics;
+    private final SocialInsuranceResultCache socialInsuranceResultCache;
+    private final EmploymentInsuranceRateHolder employmentInsuranceRateHolder;
+    private final SingleFlight<BracketLookupKey, PremiumBracket> bracketLookups;
 
     public PremiumBracketDomainService(PremiumBracketRepository premiumBracketRepository,
-                                       PremiumBracketRepositoryImpl premiumBracketRepositoryImpl) {
+                                       PremiumBracketRepositoryImpl premiumBracketRepositoryImpl,
+                                       BracketIndexHolder bracketIndexHolder,
+                                       PremiumBracketMetrics premiumBracketMetrics,
+                                       SocialInsuranceResultCache socialInsuranceResultCache,
+                                       EmploymentInsuranceRateHolder employmentInsuranceRateHolder) {
         this.premiumBracketRepository = premiumBracketRepository;
         this.premiumBracketRepositoryImpl = premiumBracketRepositoryImpl;
+        this.bracketIndexHolder = bracketIndexHolder;
+        this.premiumBracketMetrics = premiumBracketMetrics;
+        this.socialInsuranceResultCache = socialInsuranceResultCache;
+        this.employmentInsuranceRateHolder = employmentInsuranceRateHolder;
+        this.bracketLookups = new SingleFlight<>(MAX_IN_FLIGHT_LOOKUPS, premiumBracketMetrics::recordFallbackCoalesced);
+        premiumBracketMetrics.registerFallbackInFlight(bracketLookups::size);
     }
 
     // ==================== 基本 CRUD 方法 ====================
@@ -69,13 +112,15 @@ public class PremiumBracketDomainService {
     }
 
     /**
-     * 流式查询：根据等级查找保险费等级
+     * 流式查询：根据等级查找指定等级表中的保险费等级
      *
+     * @param prefecture 都道府县
+     * @param validFrom 等级表的生效日
      * @param grade 等级
      * @return Mono<PremiumBracket> 保险费等级实体
      */
-    public Mono<PremiumBracket> findByGrade(String grade) {
-        return premiumBracketRepository.findByGrade(grade);
+    public Mono<PremiumBracket> findByGrade(String prefecture, LocalDate validFrom, String grade) {
+        return premiumBracketRepository.findByPrefectureAndValidFromAndGrade(prefecture, validFrom, grade);
     }
 
     /**
@@ -89,13 +134,15 @@ public class PremiumBracketDomainService {
     }
 
     /**
-     * 流式删除：根据等级删除保险费等级
+     * 流式删除：根据等级删除指定等级表中的保险费等级
      *
+     * @param prefecture 都道府县
+     * @param validFrom 等级表的生效日
      * @param grade 等级
      * @return Mono<Void>
      */
-    public Mono<Void> deleteByGrade(String grade) {
-        return premiumBracketRepository.deleteByGrade(grade);
+    public Mono<Void> deleteByGrade(String prefecture, LocalDate validFrom, String grade) {
+        return premiumBracketRepository.deleteByPrefectureAndValidFromAndGrade(prefecture, validFrom, grade);
     }
 
     /**
@@ -109,13 +156,15 @@ public class PremiumBracketDomainService {
     }
 
     /**
-     * 流式检查：检查等级是否存在
+     * 流式检查：检查指定等级表中的等级是否存在
      *
+     * @param prefecture 都道府县
+     * @param validFrom 等级表的生效日
      * @param grade 等级
      * @return Mono<Boolean> 是否存在
      */
-    public Mono<Boolean> existsByGrade(String grade) {
-        return premiumBracketRepository.existsByGrade(grade);
+    public Mono<Boolean> existsByGrade(String prefecture, LocalDate validFrom, String grade) {
+        return premiumBracketRepository.existsByPrefectureAndValidFromAndGrade(prefecture, validFrom, grade);
     }
 
     /**
@@ -130,87 +179,342 @@ public class PremiumBracketDomainService {
     // ==================== 业务逻辑方法 ====================
 
     /**
-     * 查询社会保险金额
-     * 根据月薪和年龄计算社会保险费用
+     * 查询社会保险金额（默认都道府县，当天适用的等级表）
      *
      * @param monthlySalary 月薪
      * @param age 年龄
      * @return Mono<SocialInsuranceDomainDto> 社会保险金额DTO
      */
     public Mono<SocialInsuranceDomainDto> socialInsuranceQuery(Integer monthlySalary, Integer age) {
-        return Mono.just(monthlySalary)
-                .flatMap(salary -> premiumBracketRepository.findByAmount(salary))
-                .switchIfEmpty(Mono.error(new IllegalArgumentException(
-                        String.format("未找到月薪 %d 对应的保险费等级", monthlySalary))))
-                .flatMap(bracket -> calculateSocialInsurance(bracket, age));
+        return socialInsuranceQuery(monthlySalary, age, null, null);
     }
 
     /**
-     * 流式计算社会保险金额
-     * 健康保险、介护保险、厚生年金的花费由雇员和雇主双方各承担50%
+     * 查询社会保险金额
+     * 根据月薪和年龄，按指定都道府县在基准日适用的等级表计算社会保险费用
+     * 优先通过内存目录解析等级表和等级（结果已预先计算），目录尚未加载时回退到数据库查询；
+     * 启用 SocialInsuranceResultCache 时两条路径的结果都经由该缓存
      *
-     * @param bracket 保险费等级实体
+     * @param monthlySalary 月薪
      * @param age 年龄
+     * @param prefecture 都道府县（为 null 时使用默认都道府县）
+     * @param asOf 基准日（为 null 时使用当天）
      * @return Mono<SocialInsuranceDomainDto> 社会保险金额DTO
      */
-    private Mono<SocialInsuranceDomainDto> calculateSocialInsurance(PremiumBracket bracket, Integer age) {
-        return Mono.just(bracket)
-                .map(b -> {
-                    BigDecimal healthCostWithNoCare = b.getHealthNoCare();
-                    BigDecimal healthCostWithCare = b.getHealthCare();
-                    BigDecimal pension = b.getPension();
-
-                    // 计算介护保险金额
-                    BigDecimal careCost = BigDecimal.ZERO;
-                    if (age != null && age >= 40) {
-                        // 年龄 >= 40岁：介护保险金额 = 有介护健康保险金额 - 无介护健康保险金额
-                        careCost = healthCostWithCare.subtract(healthCostWithNoCare);
-                    }
-                    // 年龄 < 40岁：介护保险金额 = 0（已在初始化时设置）
-
-                    // 费用分配比例：雇员和雇主各承担50%
-                    BigDecimal half = new BigDecimal("0.5");
-                    int scale = 2; // 保留2位小数
-
-                    // 计算雇员承担的费用（50%）
-                    BigDecimal employeeHealthCostWithNoCare = healthCostWithNoCare.multiply(half).setScale(scale, RoundingMode.HALF_UP);
-                    BigDecimal employeeCareCost = careCost.multiply(half).setScale(scale, RoundingMode.HALF_UP);
-                    BigDecimal employeePension = pension.multiply(half).setScale(scale, RoundingMode.HALF_UP);
-
-                    // 计算雇主承担的费用（50%）
-                    BigDecimal employerHealthCostWithNoCare = healthCostWithNoCare.multiply(half).setScale(scale, RoundingMode.HALF_UP);
-                    BigDecimal employerCareCost = careCost.multiply(half).setScale(scale, RoundingMode.HALF_UP);
-                    BigDecimal employerPension = pension.multiply(half).setScale(scale, RoundingMode.HALF_UP);
-
-                    // 构建雇员费用结构体
-                    SocialInsuranceDomainDto.EmployeeCost employeeCost = SocialInsuranceDomainDto.EmployeeCost.builder()
-                            .healthCostWithNoCare(employeeHealthCostWithNoCare)
-                            .careCost(employeeCareCost)
-                            .pension(employeePension)
-                            .build();
-
-                    // 构建雇主费用结构体
-                    SocialInsuranceDomainDto.EmployerCost employerCost = SocialInsuranceDomainDto.EmployerCost.builder()
-                            .healthCostWithNoCare(employerHealthCostWithNoCare)
-                            .careCost(employerCareCost)
-                            .pension(employerPension)
-                            .build();
-
-                    return SocialInsuranceDomainDto.builder()
-                            .employeeCost(employeeCost)
-                            .employerCost(employerCost)
-                            .build();
-                });
-    }
-
-    /**
-     * 流式查询：根据金额范围查找保险费等级
+    public Mono<SocialInsuranceDomainDto> socialInsuranceQuery(Integer monthlySalary, Integer age,
+                                                               String prefecture, LocalDate asOf) {
+        return socialInsuranceQuery(monthlySalary, age, prefecture, asOf, null);
+    }
+
+    /**
+     * 查询社会保险金额（可选附加雇用保险费）
+     * 指定事业类别时，按该类别在基准日适用的雇用保险费率计算雇员、雇主各自的雇用保险费并附加到结果中；
+     * 费率同样从内存费率表解析，与等级查询在同一请求内完成
+     *
+     * @param monthlySalary 月薪
+     * @param age 年龄
+     * @param prefecture 都道府县（为 null 时使用默认都道府县）
+     * @param asOf 基准日（为 null 时使用当天）
+     * @param industry 雇用保险的事业类别（为 null 时不计算雇用保险）
+     * @return Mono<SocialInsuranceDomainDto> 社会保险金额DTO
+     */
+    public Mono<SocialInsuranceDomainDto> socialInsuranceQuery(Integer monthlySalary, Integer age,
+                                                               String prefecture, LocalDate asOf,
+                                                               String industry) {
+        LocalDate resolvedAsOf = asOf != null ? asOf : today();
+        Mono<SocialInsuranceDomainDto> result = socialInsurancePremiums(monthlySalary, age, prefecture, resolvedAsOf);
+        return industry == null ? result : withEmploymentInsurance(result, monthlySalary, industry, resolvedAsOf);
+    }
+
+    /**
+     * 查询社会保险金额并返回其编码形式（不含雇用保险费）
+     * 结果来自内存索引时，编码结果按等级位置和是否缴纳介护保险保存在索引中，同一位置只编码一次，
+     * 等级表重建后随旧索引一起丢弃；目录尚未加载时回退到数据库查询，每次编码
+     *
+     * @param monthlySalary 月薪
+     * @param age 年龄
+     * @param prefecture 都道府县（为 null 时使用默认都道府县）
+     * @param asOf 基准日（为 null 时使用当天）
+     * @param encoder 编码方式
+     * @return Mono<byte[]> 编码后的社会保险金额（共享数组，不得修改）
+     */
+    public Mono<byte[]> encodedSocialInsuranceQuery(Integer monthlySalary, Integer age, String prefecture,
+                                                    LocalDate asOf,
+                                                    Function<SocialInsuranceDomainDto, byte[]> encoder) {
+        String resolvedPrefecture = prefectureOrDefault(prefecture);
+        LocalDate resolvedAsOf = asOf != null ? asOf : today();
+        BracketCatalog catalog = bracketIndexHolder.current();
+        if (catalog.isEmpty()) {
+            return socialInsurancePremiums(monthlySalary, age, prefecture, resolvedAsOf).map(encoder);
+        }
+        long start = System.nanoTime();
+        BracketIndex index = catalog.find(resolvedPrefecture, resolvedAsOf);
+        if (index == null) {
+            premiumBracketMetrics.recordBracketMiss(PremiumBracketMetrics.SOURCE_INDEX);
+            return Mono.error(new RateTableNotFoundException(resolvedPrefecture, resolvedAsOf));
+        }
+        int position = index.indexOf(monthlySalary);
+        if (position < 0) {
+            premiumBracketMetrics.recordBracketMiss(PremiumBracketMetrics.SOURCE_INDEX);
+            return Mono.error(new BracketNotFoundException(monthlySalary));
+        }
+        boolean careEligible = FixedPointPremiumCalculator.isCareEligible(age);
+        // 结果缓存启用时仍经由缓存（保持命中率统计），缓存的结果与索引中预计算的结果相同，编码按位置复用
+        Mono<byte[]> result = socialInsuranceResultCache.isEnabled()
+                ? cachedSocialInsurance(index, position, age)
+                        .map(ignored -> index.encodedResultAt(position, careEligible, encoder))
+                : Mono.just(index.encodedResultAt(position, careEligible, encoder));
+        premiumBracketMetrics.recordIndexCalculation(start);
+        return result;
+    }
+
+    /**
+     * 计算健康保险、介护保险和厚生年金
+     * 优先通过内存目录解析等级表和等级，目录尚未加载时回退到数据库查询
+     */
+    private Mono<SocialInsuranceDomainDto> socialInsurancePremiums(Integer monthlySalary, Integer age,
+                                                                   String prefecture, LocalDate resolvedAsOf) {
+        String resolvedPrefecture = prefectureOrDefault(prefecture);
+        BracketCatalog catalog = bracketIndexHolder.current();
+        if (!catalog.isEmpty()) {
+            long start = System.nanoTime();
+            BracketIndex index = catalog.find(resolvedPrefecture, resolvedAsOf);
+            if (index == null) {
+                premiumBracketMetrics.recordBracketMiss(PremiumBracketMetrics.SOURCE_INDEX);
+                return Mono.error(new RateTableNotFoundException(resolvedPrefecture, resolvedAsOf));
+            }
+            int position = index.indexOf(monthlySalary);
+            if (position < 0) {
+                premiumBracketMetrics.recordBracketMiss(PremiumBracketMetrics.SOURCE_INDEX);
+                return Mono.error(new BracketNotFoundException(monthlySalary));
+            }
+            Mono<SocialInsuranceDomainDto> result = socialInsuranceResultCache.isEnabled()
+                    ? cachedSocialInsurance(index, position, age)
+                    : calculateSocialInsurance(index, position, age);
+            premiumBracketMetrics.recordIndexCalculation(start);
+            return result;
+        }
+        return premiumBracketMetrics.timeDatabaseCalculation(
+                findBracketCoalesced(new BracketLookupKey(resolvedPrefecture, resolvedAsOf, monthlySalary))
+                .switchIfEmpty(Mono.defer(() -> {
+                    premiumBracketMetrics.recordBracketMiss(PremiumBracketMetrics.SOURCE_DATABASE);
+                    return Mono.error(new BracketNotFoundException(monthlySalary));
+                }))
+                .flatMap(bracket -> {
+                    boolean careEligible = FixedPointPremiumCalculator.isCareEligible(age);
+                    return socialInsuranceResultCache.get(bracket, careEligible,
+                            () -> FixedPointPremiumCalculator.calculate(bracket, careEligible));
+                }));
+    }
+
+    /**
+     * 附加雇用保险费
+     * 费率表已加载时同步解析费率，尚未加载时先加载一次
      *
+     * @param result 健康保险等的计算结果
+     * @param monthlySalary 月薪
+     * @param industry 事业类别
+     * @param asOf 基准日
+     * @return Mono<SocialInsuranceDomainDto> 附加了雇用保险费的社会保险金额DTO
+     */
+    private Mono<SocialInsuranceDomainDto> withEmploymentInsurance(Mono<SocialInsuranceDomainDto> result,
+                                                                   Integer monthlySalary, String industry,
+                                                                   LocalDate asOf) {
+        EmploymentInsuranceRateTable rateTable = employmentInsuranceRateHolder.current();
+        if (rateTable.isEmpty()) {
+            return employmentInsuranceRateHolder.reload()
+                    .flatMap(loaded -> withEmploymentInsurance(loaded, result, monthlySalary, industry, asOf));
+        }
+        return withEmploymentInsurance(rateTable, result, monthlySalary, industry, asOf);
+    }
+
+    private static Mono<SocialInsuranceDomainDto> withEmploymentInsurance(EmploymentInsuranceRateTable rateTable,
+                                                                          Mono<SocialInsuranceDomainDto> result,
+                                                                          Integer monthlySalary, String industry,
+                                                                          LocalDate asOf) {
+        EmploymentInsuranceRateTable.Rate rate = rateTable.find(industry, asOf);
+        if (rate == null) {
+            return Mono.error(new EmploymentInsuranceRateNotFoundException(industry, asOf));
+        }
+        SocialInsuranceDomainDto.EmploymentInsuranceCost cost = rate.calculate(monthlySalary);
+        return result.map(dto -> dto.withEmploymentInsurance(cost));
+    }
+
+    /**
+     * 从数据库查找等级，相同键（都道府县、基准日、月薪）的并发查询合并为一次
+     * 冷启动或数据库变慢时，同一月薪的突发请求只占用一个连接
+     *
+     * @param key 查询键
+     * @return Mono<PremiumBracket> 保险费等级信息
+     */
+    private Mono<PremiumBracket> findBracketCoalesced(BracketLookupKey key) {
+        return bracketLookups.execute(key, () -> premiumBracketMetrics.timeFindByPrefectureAsOfAndAmount(
+                premiumBracketRepository.findByPrefectureAsOfAndAmount(key.prefecture(), key.asOf(), key.amount())));
+    }
+
+    /**
+     * 批量查询社会保险金额
+     * 所有员工共用同一份目录快照，在一个循环内完成等级表解析、等级解析和结果查找；
+     * 目录尚未加载时先加载一次，而不是逐条查询数据库
+     *
+     * @param queries 查询条件列表
+     * @return Mono<List<SocialInsuranceBatchDomainDto>> 与查询条件顺序一致的结果列表
+     */
+    public Mono<List<SocialInsuranceBatchDomainDto>> socialInsuranceBatchQuery(List<SocialInsuranceQueryDomainDto> queries) {
+        return currentCatalog().map(catalog -> {
+            long start = System.nanoTime();
+            LocalDate today = today();
+            List<SocialInsuranceBatchDomainDto> results = new ArrayList<>(queries.size());
+            for (SocialInsuranceQueryDomainDto query : queries) {
+                results.add(evaluate(catalog, query, today));
+            }
+            premiumBracketMetrics.recordBatchCalculation(start);
+            return results;
+        });
+    }
+
+    /**
+     * 流式批量查询社会保险金额
+     * 整个流共用订阅时的目录快照和基准日，逐条计算并发出结果，保留 Reactor 背压，
+     * 内存占用与输入规模无关
+     *
+     * @param queries 查询条件流
+     * @return Flux<SocialInsuranceBatchDomainDto> 与查询条件顺序一致的结果流
+     */
+    public Flux<SocialInsuranceBatchDomainDto> socialInsuranceStreamQuery(Flux<SocialInsuranceQueryDomainDto> queries) {
+        return currentCatalog().flatMapMany(catalog -> {
+            LocalDate today = today();
+            return queries.map(query -> evaluate(catalog, query, today));
+        });
+    }
+
+    /**
+     * 查询保险费曲线
+     * 在 [fromSalary, toSalary] 区间内按 step 取样，返回每个月薪对应的社会保险金额；
+     * 整条曲线使用同一张等级表，按 PremiumCurve 的归并方式单次遍历生成，逐点写出
+     *
+     * @param fromSalary 起始月薪（含）
+     * @param toSalary 结束月薪（含）
+     * @param step 步长
+     * @param age 年龄
+     * @param prefecture 都道府县（为 null 时使用默认都道府县）
+     * @param asOf 基准日（为 null 时使用当天）
+     * @return Flux<SocialInsuranceCurvePointDomainDto> 按月薪升序的曲线点
+     */
+    public Flux<SocialInsuranceCurvePointDomainDto> socialInsuranceCurve(int fromSalary, int toSalary, int step,
+                                                                        Integer age, String prefecture,
+                                                                        LocalDate asOf) {
+        if (step <= 0) {
+            return Flux.error(new IllegalArgumentException("步长必须大于 0"));
+        }
+        if (fromSalary < 0 || fromSalary > toSalary) {
+            return Flux.error(new IllegalArgumentException("月薪区间不合法：起始月薪不能为负数，且不能大于结束月薪"));
+        }
+        if (((long) toSalary - fromSalary) / step >= MAX_CURVE_POINTS) {
+            return Flux.error(new IllegalArgumentException("曲线点数不能超过 " + MAX_CURVE_POINTS + "，请增大步长或缩小区间"));
+        }
+        String resolvedPrefecture = prefectureOrDefault(prefecture);
+        LocalDate resolvedAsOf = asOf != null ? asOf : today();
+        return currentCatalog().flatMapMany(catalog -> {
+            BracketIndex index = catalog.find(resolvedPrefecture, resolvedAsOf);
+            if (index == null) {
+                return Flux.error(new RateTableNotFoundException(resolvedPrefecture, resolvedAsOf));
+            }
+            return PremiumCurve.generate(index, fromSalary, toSalary, step,
+                    FixedPointPremiumCalculator.isCareEligible(age));
+        });
+    }
+
+    /**
+     * 获取当前目录，尚未加载时从数据库加载
+     *
+     * @return Mono<BracketCatalog> 保险费等级表目录
+     */
+    private Mono<BracketCatalog> currentCatalog() {
+        BracketCatalog catalog = bracketIndexHolder.current();
+        return catalog.isEmpty() ? bracketIndexHolder.reload() : Mono.just(catalog);
+    }
+
+    /**
+     * 根据目录计算单条查询结果，查询失败时返回错误消息而不是抛出异常
+     *
+     * @param catalog 保险费等级表目录
+     * @param query 查询条件
+     * @param today 未指定基准日时使用的日期
+     * @return 单条查询结果
+     */
+    private SocialInsuranceBatchDomainDto evaluate(BracketCatalog catalog, SocialInsuranceQueryDomainDto query,
+                                                   LocalDate today) {
+        Integer monthlySalary = query.monthlySalary();
+        if (monthlySalary == null) {
+            return new SocialInsuranceBatchDomainDto(query.employeeId(), null, "月薪不能为空");
+        }
+        String prefecture = prefectureOrDefault(query.prefecture());
+        LocalDate asOf = query.asOf() != null ? query.asOf() : today;
+        BracketIndex index = catalog.find(prefecture, asOf);
+        if (index == null) {
+            premiumBracketMetrics.recordBracketMiss(PremiumBracketMetrics.SOURCE_BATCH);
+            return new SocialInsuranceBatchDomainDto(query.employeeId(), null,
+                    RateTableNotFoundException.messageFor(prefecture, asOf));
+        }
+        int position = index.indexOf(monthlySalary);
+        if (position < 0) {
+            premiumBracketMetrics.recordBracketMiss(PremiumBracketMetrics.SOURCE_BATCH);
+            return new SocialInsuranceBatchDomainDto(query.employeeId(), null,
+                    BracketNotFoundException.messageFor(monthlySalary));
+        }
+        return new SocialInsuranceBatchDomainDto(query.employeeId(),
+                index.resultAt(position, FixedPointPremiumCalculator.isCareEligible(query.age())), null);
+    }
+
+    private static String prefectureOrDefault(String prefecture) {
+        return prefecture != null ? prefecture : BracketCatalog.DEFAULT_PREFECTURE;
+    }
+
+    private static LocalDate today() {
+        return LocalDate.now(BracketCatalog.ZONE);
+    }
+
+    /**
+     * 流式计算社会保险金额（索引路径）
+     * 结果已在构建索引时预先计算，按位置直接返回
+     *
+     * @param index 保险费等级索引
+     * @param position 等级位置
+     * @param age 年龄
+     * @return Mono<SocialInsuranceDomainDto> 社会保险金额DTO
+     */
+    private Mono<SocialInsuranceDomainDto> calculateSocialInsurance(BracketIndex index, int position, Integer age) {
+        return Mono.just(index.resultAt(position, FixedPointPremiumCalculator.isCareEligible(age)));
+    }
+
+    /**
+     * 经由结果缓存获取社会保险金额（索引路径，缓存启用时）
+     * 未命中时取索引中预先计算的结果写入缓存
+     *
+     * @param index 保险费等级索引
+     * @param position 等级位置
+     * @param age 年龄
+     * @return Mono<SocialInsuranceDomainDto> 社会保险金额DTO
+     */
+    private Mono<SocialInsuranceDomainDto> cachedSocialInsurance(BracketIndex index, int position, Integer age) {
+        boolean careEligible = FixedPointPremiumCalculator.isCareEligible(age);
+        return socialInsuranceResultCache.get(index.bracketAt(position), careEligible,
+                () -> index.resultAt(position, careEligible));
+    }
+
+    /**
+     * 流式查询：查找指定都道府县在基准日适用的等级表中，金额所在的保险费等级
+     *
+     * @param prefecture 都道府县（为 null 时使用默认都道府县）
+     * @param asOf 基准日（为 null 时使用当天）
      * @param amount 金额
      * @return Mono<PremiumBracket> 保险费等级实体
      */
-    public Mono<PremiumBracket> findBracketByAmount(Integer amount) {
-        return premiumBracketRepositoryImpl.findBracketByAmount(amount);
+    public Mono<PremiumBracket> findBracketByAmount(String prefecture, LocalDate asOf, Integer amount) {
+        return premiumBracketMetrics.timeFindByPrefectureAsOfAndAmount(
+                premiumBracketRepository.findByPrefectureAsOfAndAmount(prefectureOrDefault(prefecture),
+                        asOf != null ? asOf : today(), amount));
     }
 
     /**
@@ -225,7 +529,7 @@ public class PremiumBracketDomainService {
     }
 
     /**
-     * 流式操作：保存或更新保险费等级（根据等级）
+     * 流式操作：保存或更新保险费等级（根据都道府县、生效日和等级，单条语句完成）
      *
      * @param premiumBracket 保险费等级实体
      * @return Mono<PremiumBracket> 保存或更新后的实体
@@ -243,5 +547,113 @@ public class PremiumBracketDomainService {
     public Mono<PremiumBracket> saveIfNotExists(PremiumBracket premiumBracket) {
         return premiumBracketRepositoryImpl.saveIfNotExists(premiumBracket);
     }
-}
 
+    // ==================== 等级表导入 ====================
+
+    /**
+     * 批量导入等级表
+     * 在单个事务中替换导入数据涉及的全部版本，提交后立即重建本节点的索引，
+     * 其他节点由变更通知重建（本节点重建失败时同样依赖变更通知重试）
+     *
+     * @param premiumBrackets 保险费等级列表
+     * @return Mono<RateTableImportDomainDto> 导入结果
+     */
+    public Mono<RateTableImportDomainDto> importRateTables(List<PremiumBracket> premiumBrackets) {
+        return Mono.fromCallable(() -> normalizeRateTables(premiumBrackets))
+                .flatMap(tableCount -> premiumBracketRepositoryImpl.replaceRateTables(premiumBrackets)
+                        .flatMap(bracketCount -> bracketIndexHolder.reload()
+                                .onErrorResume(error -> Mono.empty())
+                                .thenReturn(new RateTableImportDomainDto(tableCount, bracketCount))));
+    }
+
+    /**
+     * 校验并整理导入数据
+     * 每张等级表（都道府县 × 生效日）内的等级不能重复，失效日必须一致且晚于生效日；
+     * 金额不能为负数且最小金额必须小于最大金额，保险费最多保留 2 位小数（与定点计算的精度一致，
+     * 否则索引重建时无法转换为“钱”）；
+     * 同一都道府县导入多个版本时，未指定失效日的版本截止到下一版本的生效日
+     *
+     * @param premiumBrackets 保险费等级列表
+     * @return 等级表数量
+     * @throws IllegalArgumentException 数据不合法时
+     */
+    private static int normalizeRateTables(List<PremiumBracket> premiumBrackets) {
+        if (premiumBrackets.isEmpty()) {
+            throw new IllegalArgumentException("导入数据不能为空");
+        }
+        Map<String, TreeMap<LocalDate, List<PremiumBracket>>> tables = new HashMap<>();
+        for (PremiumBracket bracket : premiumBrackets) {
+            if (bracket.getPrefecture() == null || bracket.getValidFrom() == null || bracket.getGrade() == null) {
+                throw new IllegalArgumentException("都道府县、生效日和等级不能为空");
+            }
+            tables.computeIfAbsent(bracket.getPrefecture(), prefecture -> new TreeMap<>())
+                    .computeIfAbsent(bracket.getValidFrom(), validFrom -> new ArrayList<>())
+                    .add(bracket);
+        }
+        int tableCount = 0;
+        for (Map.Entry<String, TreeMap<LocalDate, List<PremiumBracket>>> timeline : tables.entrySet()) {
+            for (Map.Entry<LocalDate, List<PremiumBracket>> table : timeline.getValue().entrySet()) {
+                normalizeRateTable(timeline.getKey(), table.getKey(), table.getValue(),
+                        timeline.getValue().higherKey(table.getKey()));
+                tableCount++;
+            }
+        }
+        return tableCount;
+    }
+
+    private static void normalizeRateTable(String prefecture, LocalDate validFrom, List<PremiumBracket> brackets,
+                                           LocalDate nextValidFrom) {
+        String table = prefecture + "（" + validFrom + " 起）";
+        LocalDate validTo = brackets.get(0).getValidTo();
+        Set<String> grades = new HashSet<>();
+        for (PremiumBracket bracket : brackets) {
+            if (!grades.add(bracket.getGrade())) {
+                throw new IllegalArgumentException("等级表 " + table + " 中的等级 " + bracket.getGrade() + " 重复");
+            }
+            if (!Objects.equals(validTo, bracket.getValidTo())) {
+                throw new IllegalArgumentException("等级表 " + table + " 中的失效日不一致");
+            }
+            validateAmounts(table, bracket);
+        }
+        if (validTo != null && !validTo.isAfter(validFrom)) {
+            throw new IllegalArgumentException("等级表 " + table + " 的失效日必须晚于生效日");
+        }
+        if (validTo == null && nextValidFrom != null) {
+            for (PremiumBracket bracket : brackets) {
+                bracket.setValidTo(nextValidFrom);
+            }
+        }
+    }
+
+    /**
+     * 校验单个等级的金额和保险费
+     */
+    private static void validateAmounts(String table, PremiumBracket bracket) {
+        String grade = "等级表 " + table + " 中的等级 " + bracket.getGrade();
+        if (bracket.getStdRem() < 0 || bracket.getMinAmount() < 0 || bracket.getMaxAmount() < 0) {
+            throw new IllegalArgumentException(grade + " 的金额不能为负数");
+        }
+        if (bracket.getMinAmount() >= bracket.getMaxAmount()) {
+            throw new IllegalArgumentException(grade + " 的最小金额必须小于最大金额");
+        }
+        validatePremium(grade, "health_no_care", bracket.getHealthNoCare());
+        validatePremium(grade, "health_care", bracket.getHealthCare());
+        validatePremium(grade, "pension", bracket.getPension());
+    }
+
+    private static void validatePremium(String grade, String column, BigDecimal premium) {
+        if (premium.signum() < 0 || premium.compareTo(MAX_PREMIUM) > 0) {
+            throw new IllegalArgumentException(grade + " 的 " + column + " 必须在 0 到 " + MAX_PREMIUM + " 之间");
+        }
+        if (premium.stripTrailingZeros().scale() > FixedPointPremiumCalculator.SCALE) {
+            throw new IllegalArgumentException(
+                    grade + " 的 " + column + " 最多保留 " + FixedPointPremiumCalculator.SCALE + " 位小数");
+        }
+    }
+
+    /**
+     * 数据库回退路径的查询键
+     */
+    private record BracketLookupKey(String prefecture, LocalDate asOf, Integer amount) {
+    }
+}
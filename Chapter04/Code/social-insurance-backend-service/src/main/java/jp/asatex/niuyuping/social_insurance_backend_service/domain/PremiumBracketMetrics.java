@@ -0,0 +1,189 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.domain;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 保险费计算指标
+ * 统一定义 Domain 层与数据访问的 Micrometer 指标，所有计量器在构造时注册，热路径上只做记录
+ * <ul>
+ *     <li>social_insurance.calculation：单次查询计算耗时（source=index|database）</li>
+ *     <li>social_insurance.batch.calculation：批量查询计算耗时</li>
+ *     <li>social_insurance.bracket.miss：月薪没有对应等级的次数（source=index|database|batch）</li>
+ *     <li>social_insurance.repository.query：等级查询耗时（query=findByPrefectureAsOfAndAmount|findAllOrderByStdRemAsc）</li>
+ *     <li>social_insurance.bracket.index.size：内存索引中的等级数</li>
+ *     <li>social_insurance.fallback.in_flight：数据库回退路径上进行中的合并查询数</li>
+ *     <li>social_insurance.fallback.coalesced：数据库回退路径上被合并到进行中查询的请求数</li>
+ *     <li>cache.*（cache=social_insurance.result）：结果缓存的命中、未命中、淘汰次数和条目数（缓存启用时）</li>
+ * </ul>
+ */
+@Component
+public class PremiumBracketMetrics {
+
+    public static final String SOURCE_INDEX = "index";
+    public static final String SOURCE_DATABASE = "database";
+    public static final String SOURCE_BATCH = "batch";
+
+    /**
+     * 结果缓存名称（cache.* 指标的 cache 标签）
+     */
+    public static final String RESULT_CACHE_NAME = "social_insurance.result";
+
+    private final MeterRegistry meterRegistry;
+    private final Timer indexCalculation;
+    private final Timer databaseCalculation;
+    private final Timer batchCalculation;
+    private final Counter indexMiss;
+    private final Counter databaseMiss;
+    private final Counter batchMiss;
+    private final Timer findByPrefectureAsOfAndAmountQuery;
+    private final Timer findAllQuery;
+    private final Counter fallbackCoalesced;
+
+    public PremiumBracketMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.indexCalculation = calculationTimer(SOURCE_INDEX);
+        this.databaseCalculation = calculationTimer(SOURCE_DATABASE);
+        this.batchCalculation = Timer.builder("social_insurance.batch.calculation")
+                .description("批量查询的计算耗时")
+                .register(meterRegistry);
+        this.indexMiss = missCounter(SOURCE_INDEX);
+        this.databaseMiss = missCounter(SOURCE_DATABASE);
+        this.batchMiss = missCounter(SOURCE_BATCH);
+        this.findByPrefectureAsOfAndAmountQuery = queryTimer("findByPrefectureAsOfAndAmount");
+        this.findAllQuery = queryTimer("findAllOrderByStdRemAsc");
+        this.fallbackCoalesced = Counter.builder("social_insurance.fallback.coalesced")
+                .description("数据库回退路径上合并到进行中查询、未单独访问数据库的请求数")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 注册内存索引大小的计量器
+     *
+     * @param indexSize 当前索引中的等级数
+     */
+    public void registerIndexSize(Supplier<Number> indexSize) {
+        Gauge.builder("social_insurance.bracket.index.size", indexSize)
+                .description("内存索引中的保险费等级数，0 表示索引尚未加载")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 注册数据库回退路径上进行中查询数的计量器
+     *
+     * @param inFlightSize 当前进行中的合并查询数
+     */
+    public void registerFallbackInFlight(Supplier<Number> inFlightSize) {
+        Gauge.builder("social_insurance.fallback.in_flight", inFlightSize)
+                .description("数据库回退路径上进行中的合并查询数")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 注册结果缓存的统计指标（缓存需以 recordStats() 构建）
+     *
+     * @param cache 结果缓存
+     */
+    public void registerResultCache(AsyncCache<?, ?> cache) {
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, RESULT_CACHE_NAME);
+    }
+
+    /**
+     * 记录一次被合并到进行中查询的请求
+     */
+    public void recordFallbackCoalesced() {
+        fallbackCoalesced.increment();
+    }
+
+    /**
+     * 记录索引路径的计算耗时
+     *
+     * @param startNanos 开始时刻（System.nanoTime()）
+     */
+    public void recordIndexCalculation(long startNanos) {
+        indexCalculation.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 记录批量查询的计算耗时
+     *
+     * @param startNanos 开始时刻（System.nanoTime()）
+     */
+    public void recordBatchCalculation(long startNanos) {
+        batchCalculation.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 记录一次等级未命中
+     *
+     * @param source 查询来源（SOURCE_INDEX、SOURCE_DATABASE 或 SOURCE_BATCH）
+     */
+    public void recordBracketMiss(String source) {
+        switch (source) {
+            case SOURCE_INDEX -> indexMiss.increment();
+            case SOURCE_DATABASE -> databaseMiss.increment();
+            default -> batchMiss.increment();
+        }
+    }
+
+    /**
+     * 计时：数据库回退路径的整体计算耗时
+     */
+    public <T> Mono<T> timeDatabaseCalculation(Mono<T> calculation) {
+        return timed(databaseCalculation, calculation);
+    }
+
+    /**
+     * 计时：按都道府县、基准日和金额查询等级
+     */
+    public <T> Mono<T> timeFindByPrefectureAsOfAndAmount(Mono<T> query) {
+        return timed(findByPrefectureAsOfAndAmountQuery, query);
+    }
+
+    /**
+     * 计时：加载全部等级
+     */
+    public <T> Mono<T> timeFindAll(Mono<T> query) {
+        return timed(findAllQuery, query);
+    }
+
+    private Timer calculationTimer(String source) {
+        return Timer.builder("social_insurance.calculation")
+                .description("单次社会保险金额查询的计算耗时")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    private Counter missCounter(String source) {
+        return Counter.builder("social_insurance.bracket.miss")
+                .description("月薪没有对应保险费等级的次数")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    private Timer queryTimer(String query) {
+        return Timer.builder("social_insurance.repository.query")
+                .description("保险费等级查询耗时")
+                .tag("query", query)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 从订阅到终止（完成、出错或取消）的耗时
+     */
+    private static <T> Mono<T> timed(Timer timer, Mono<T> source) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return source.doFinally(signal -> timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+}
@@ -0,0 +1,64 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.domain;
+
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.dto.SocialInsuranceCurvePointDomainDto;
+import reactor.core.publisher.Flux;
+
+/**
+ * 保险费曲线生成
+ * 月薪按固定步长递增，等级按金额升序排列，因此两者可以像归并一样同向推进：
+ * 每个点只需把等级位置向前移动到第一个最大金额大于月薪的等级，不做逐点二分查找，
+ * 生成 n 个点、m 个等级的曲线总计 O(n + m)。点按订阅者的请求量逐个生成（Flux.generate），
+ * 曲线再长也不会一次性占用内存
+ */
+final class PremiumCurve {
+
+    private PremiumCurve() {
+    }
+
+    /**
+     * 生成 [fromSalary, toSalary] 区间内按 step 取样的曲线
+     *
+     * @param index 保险费等级索引
+     * @param fromSalary 起始月薪（含）
+     * @param toSalary 结束月薪（含，不在步长上时不生成）
+     * @param step 步长（正数）
+     * @param careEligible 是否需要缴纳介护保险
+     * @return Flux<SocialInsuranceCurvePointDomainDto> 按月薪升序的曲线点
+     */
+    static Flux<SocialInsuranceCurvePointDomainDto> generate(BracketIndex index, int fromSalary, int toSalary,
+                                                            int step, boolean careEligible) {
+        return Flux.generate(() -> new Cursor(fromSalary), (cursor, sink) -> {
+            int salary = (int) cursor.salary;
+            int position = cursor.position;
+            while (position < index.size() && salary >= index.maxAmountAt(position)) {
+                position++;
+            }
+            cursor.position = position;
+            if (position < index.size() && salary >= index.minAmountAt(position)) {
+                sink.next(new SocialInsuranceCurvePointDomainDto(salary, index.resultAt(position, careEligible), null));
+            } else {
+                sink.next(new SocialInsuranceCurvePointDomainDto(salary, null,
+                        BracketNotFoundException.messageFor(salary)));
+            }
+            // long 累加，toSalary 接近 Integer.MAX_VALUE 时不会溢出成负数
+            cursor.salary += step;
+            if (cursor.salary > toSalary) {
+                sink.complete();
+            }
+            return cursor;
+        });
+    }
+
+    /**
+     * 生成状态：下一个点的月薪和当前等级位置（只增不减）
+     */
+    private static final class Cursor {
+
+        private long salary;
+        private int position;
+
+        private Cursor(long salary) {
+            this.salary = salary;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.domain;
+
+import java.time.LocalDate;
+
+/**
+ * 指定都道府县在基准日没有适用的保险费等级表的异常
+ * 与 BracketNotFoundException 相同，属于可预期的输入错误：不采集堆栈，消息在首次读取时才拼接
+ */
+public class RateTableNotFoundException extends IllegalArgumentException {
+
+    private final String prefecture;
+
+    private final LocalDate asOf;
+
+    private String message;
+
+    public RateTableNotFoundException(String prefecture, LocalDate asOf) {
+        this.prefecture = prefecture;
+        this.asOf = asOf;
+    }
+
+    /**
+     * 生成错误消息（批量查询的单条错误也使用同一格式）
+     *
+     * @param prefecture 都道府县
+     * @param asOf 基准日
+     * @return 错误消息
+     */
+    public static String messageFor(String prefecture, LocalDate asOf) {
+        return "未找到 " + prefecture + " 在 " + asOf + " 适用的保险费等级表";
+    }
+
+    public String getPrefecture() {
+        return prefecture;
+    }
+
+    public LocalDate getAsOf() {
+        return asOf;
+    }
+
+    @Override
+    public String getMessage() {
+        if (message == null) {
+            message = messageFor(prefecture, asOf);
+        }
+        return message;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
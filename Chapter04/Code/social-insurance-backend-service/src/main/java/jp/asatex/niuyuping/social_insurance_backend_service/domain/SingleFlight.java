@@ -0,0 +1,78 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.domain;
+
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 相同请求合并（single-flight）
+ * 同一个键同时只执行一次加载，执行期间到达的订阅者共享同一个进行中的 Mono；
+ * 加载终止（完成、出错或全部订阅者取消）后立即移除该键，之后的请求重新加载，不缓存结果。
+ * 单个订阅者取消不影响其他订阅者，只有全部订阅者取消时才取消底层加载。
+ * 进行中的键数达到上限时不再合并，直接执行加载，避免键空间无限增长
+ *
+ * @param <K> 键类型（需正确实现 equals/hashCode）
+ * @param <V> 结果类型
+ */
+final class SingleFlight<K, V> {
+
+    private final int maxKeys;
+    private final Runnable onCoalesced;
+    private final ConcurrentHashMap<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxKeys 同时进行中的键数上限
+     * @param onCoalesced 请求被合并到进行中的加载时的回调（用于计数）
+     */
+    SingleFlight(int maxKeys, Runnable onCoalesced) {
+        this.maxKeys = maxKeys;
+        this.onCoalesced = onCoalesced;
+    }
+
+    /**
+     * 执行加载，相同键的并发请求共享同一次执行
+     *
+     * @param key 键
+     * @param loader 加载函数（每次实际执行时调用）
+     * @return Mono<V> 加载结果
+     */
+    Mono<V> execute(K key, Supplier<Mono<V>> loader) {
+        return Mono.defer(() -> {
+            Mono<V> existing = inFlight.get(key);
+            if (existing != null) {
+                onCoalesced.run();
+                return existing;
+            }
+            if (inFlight.size() >= maxKeys) {
+                return loader.get();
+            }
+            AtomicReference<Mono<V>> self = new AtomicReference<>();
+            // replay(1).refCount()：首个订阅者触发加载，全部订阅者取消时取消底层加载；
+            // 值发出后、终止前加入的订阅者也能收到该值（publish() 不重放，这类订阅者只会收到空结果）
+            Mono<V> shared = Mono.defer(loader)
+                    .doFinally(signal -> inFlight.remove(key, self.get()))
+                    .flux()
+                    .replay(1)
+                    .refCount()
+                    .singleOrEmpty();
+            self.set(shared);
+            existing = inFlight.putIfAbsent(key, shared);
+            if (existing != null) {
+                onCoalesced.run();
+                return existing;
+            }
+            return shared;
+        });
+    }
+
+    /**
+     * 当前进行中的键数
+     *
+     * @return 键数
+     */
+    int size() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,91 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.domain;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jp.asatex.niuyuping.social_insurance_backend_service.config.SocialInsuranceCacheProperties;
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.dto.SocialInsuranceDomainDto;
+import jp.asatex.niuyuping.social_insurance_backend_service.entity.PremiumBracket;
+import jp.asatex.niuyuping.social_insurance_backend_service.repository.PremiumBracketRepository;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 社会保险金额结果缓存（Caffeine AsyncLoadingCache）
+ * 以（等级 ID，是否缴纳介护保险）为键缓存计算结果，索引路径和数据库回退路径共用；
+ * 条目写入超过 refreshAfterWrite 后在下次访问时按等级 ID 重新查询并异步刷新，刷新完成前继续返回旧值，
+ * 超过 maximumSize 时淘汰，等级索引重建时整体清空，命中率等统计信息由 PremiumBracketMetrics 导出。
+ * 禁用时（social-insurance.cache.enabled=false）每次直接计算，便于在压测中对比开启与关闭的效果
+ */
+@Component
+public class SocialInsuranceResultCache {
+
+    /**
+     * 为 null 表示缓存已禁用
+     */
+    private final AsyncLoadingCache<ResultKey, SocialInsuranceDomainDto> cache;
+
+    public SocialInsuranceResultCache(SocialInsuranceCacheProperties properties,
+                                      PremiumBracketRepository premiumBracketRepository,
+                                      PremiumBracketMetrics premiumBracketMetrics) {
+        if (!properties.enabled()) {
+            this.cache = null;
+            return;
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .refreshAfterWrite(properties.refreshAfterWrite())
+                .expireAfterWrite(properties.expireAfterWrite())
+                .recordStats()
+                .buildAsync((key, executor) -> premiumBracketRepository.findById(key.bracketId())
+                        .map(bracket -> FixedPointPremiumCalculator.calculate(bracket, key.careEligible()))
+                        .toFuture());
+        premiumBracketMetrics.registerResultCache(cache);
+    }
+
+    /**
+     * 缓存是否启用
+     *
+     * @return 是否启用
+     */
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * 获取等级对应的社会保险金额，未命中时执行传入的计算并缓存
+     *
+     * @param bracket 保险费等级实体
+     * @param careEligible 是否需要缴纳介护保险
+     * @param calculation 未命中（或缓存禁用）时的计算
+     * @return Mono<SocialInsuranceDomainDto> 社会保险金额DTO
+     */
+    public Mono<SocialInsuranceDomainDto> get(PremiumBracket bracket, boolean careEligible,
+                                              Supplier<SocialInsuranceDomainDto> calculation) {
+        if (cache == null || bracket.getId() == null) {
+            return Mono.fromSupplier(calculation);
+        }
+        return Mono.fromFuture(() -> cache.get(new ResultKey(bracket.getId(), careEligible),
+                (key, executor) -> CompletableFuture.completedFuture(calculation.get())));
+    }
+
+    /**
+     * 清空全部条目（等级索引重建时调用，避免返回旧等级表的结果）
+     */
+    public void invalidateAll() {
+        if (cache != null) {
+            cache.synchronous().invalidateAll();
+        }
+    }
+
+    /**
+     * 缓存键
+     *
+     * @param bracketId 等级 ID
+     * @param careEligible 是否需要缴纳介护保险
+     */
+    private record ResultKey(Long bracketId, boolean careEligible) {
+    }
+}
@@ -0,0 +1,10 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.domain.dto;
+
+/**
+ * 等级表批量导入结果 DTO
+ *
+ * @param tableCount 导入的等级表数量（都道府县 × 生效日）
+ * @param bracketCount 导入的等级总数
+ */
+public record RateTableImportDomainDto(int tableCount, long bracketCount) {
+}
@@ -0,0 +1,12 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.domain.dto;
+
+/**
+ * 社会保险金额批量查询的单条结果 DTO
+ * 单条查询失败不影响其他员工，失败原因记录在 error 中
+ *
+ * @param employeeId 员工ID
+ * @param result 社会保险金额（查询失败时为 null）
+ * @param error 错误消息（查询成功时为 null）
+ */
+public record SocialInsuranceBatchDomainDto(String employeeId, SocialInsuranceDomainDto result, String error) {
+}
@@ -0,0 +1,12 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.domain.dto;
+
+/**
+ * 保险费曲线（月薪 → 社会保险金额）上的单个点 DTO
+ * 月薪没有对应等级时该点不含金额，原因记录在 error 中
+ *
+ * @param monthlySalary 月薪
+ * @param result 社会保险金额（没有对应等级时为 null）
+ * @param error 错误消息（有对应等级时为 null）
+ */
+public record SocialInsuranceCurvePointDomainDto(int monthlySalary, SocialInsuranceDomainDto result, String error) {
+}
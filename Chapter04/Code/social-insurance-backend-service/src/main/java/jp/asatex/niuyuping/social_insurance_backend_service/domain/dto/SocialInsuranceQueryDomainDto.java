@@ -0,0 +1,16 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.domain.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 社会保险金额批量查询的单条查询条件 DTO
+ *
+ * @param employeeId 员工ID（原样返回，用于调用方对应结果）
+ * @param monthlySalary 月薪
+ * @param age 年龄
+ * @param prefecture 都道府县（为 null 时使用默认都道府县）
+ * @param asOf 基准日（为 null 时使用当天），按该日期适用的等级表计算
+ */
+public record SocialInsuranceQueryDomainDto(String employeeId, Integer monthlySalary, Integer age,
+                                            String prefecture, LocalDate asOf) {
+}
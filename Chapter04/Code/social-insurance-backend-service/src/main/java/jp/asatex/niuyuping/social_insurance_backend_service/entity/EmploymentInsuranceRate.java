@@ -0,0 +1,244 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 雇用保险费率实体类
+ * 对应 employment_insurance_rate 表
+ * 每条费率属于某个事业类别（industry）在某一生效期间 [valid_from, valid_to) 内的费率，费率以千分比（‰）表示
+ */
+@Table("employment_insurance_rate")
+public class EmploymentInsuranceRate {
+
+    @Id
+    private Long id;
+
+    /**
+     * 事业类别（general、agriculture、construction）
+     */
+    @Column("industry")
+    private String industry;
+
+    /**
+     * 生效日（含）
+     */
+    @Column("valid_from")
+    private LocalDate validFrom;
+
+    /**
+     * 失效日（不含），null 表示仍然有效
+     */
+    @Column("valid_to")
+    private LocalDate validTo;
+
+    /**
+     * 雇员负担费率（‰）
+     */
+    @Column("employee_rate")
+    private BigDecimal employeeRate;
+
+    /**
+     * 雇主负担费率（‰，含雇用保险二事业）
+     */
+    @Column("employer_rate")
+    private BigDecimal employerRate;
+
+    @Column("created_at")
+    private LocalDateTime createdAt;
+
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+
+    // 默认构造函数
+    public EmploymentInsuranceRate() {
+    }
+
+    // 全参构造函数
+    public EmploymentInsuranceRate(Long id, String industry, LocalDate validFrom, LocalDate validTo,
+                                   BigDecimal employeeRate, BigDecimal employerRate, LocalDateTime createdAt,
+                                   LocalDateTime updatedAt) {
+        this.id = id;
+        this.industry = industry;
+        this.validFrom = validFrom;
+        this.validTo = validTo;
+        this.employeeRate = employeeRate;
+        this.employerRate = employerRate;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    // Getter 和 Setter 方法
+    public Long getId() {
+        return id;
+    }
+
+    public EmploymentInsuranceRate setId(Long id) {
+        this.id = id;
+        return this;
+    }
+
+    public String getIndustry() {
+        return industry;
+    }
+
+    public EmploymentInsuranceRate setIndustry(String industry) {
+        this.industry = industry;
+        return this;
+    }
+
+    public LocalDate getValidFrom() {
+        return validFrom;
+    }
+
+    public EmploymentInsuranceRate setValidFrom(LocalDate validFrom) {
+        this.validFrom = validFrom;
+        return this;
+    }
+
+    public LocalDate getValidTo() {
+        return validTo;
+    }
+
+    public EmploymentInsuranceRate setValidTo(LocalDate validTo) {
+        this.validTo = validTo;
+        return this;
+    }
+
+    public BigDecimal getEmployeeRate() {
+        return employeeRate;
+    }
+
+    public EmploymentInsuranceRate setEmployeeRate(BigDecimal employeeRate) {
+        this.employeeRate = employeeRate;
+        return this;
+    }
+
+    public BigDecimal getEmployerRate() {
+        return employerRate;
+    }
+
+    public EmploymentInsuranceRate setEmployerRate(BigDecimal employerRate) {
+        this.employerRate = employerRate;
+        return this;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public EmploymentInsuranceRate setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+        return this;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public EmploymentInsuranceRate setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+        return this;
+    }
+
+    // 流式编程风格的 builder 方法
+    public static EmploymentInsuranceRateBuilder builder() {
+        return new EmploymentInsuranceRateBuilder();
+    }
+
+    public static class EmploymentInsuranceRateBuilder {
+        private Long id;
+        private String industry;
+        private LocalDate validFrom;
+        private LocalDate validTo;
+        private BigDecimal employeeRate;
+        private BigDecimal employerRate;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+
+        public EmploymentInsuranceRateBuilder id(Long id) {
+            this.id = id;
+            return this;
+        }
+
+        public EmploymentInsuranceRateBuilder industry(String industry) {
+            this.industry = industry;
+            return this;
+        }
+
+        public EmploymentInsuranceRateBuilder validFrom(LocalDate validFrom) {
+            this.validFrom = validFrom;
+            return this;
+        }
+
+        public EmploymentInsuranceRateBuilder validTo(LocalDate validTo) {
+            this.validTo = validTo;
+            return this;
+        }
+
+        public EmploymentInsuranceRateBuilder employeeRate(BigDecimal employeeRate) {
+            this.employeeRate = employeeRate;
+            return this;
+        }
+
+        public EmploymentInsuranceRateBuilder employerRate(BigDecimal employerRate) {
+            this.employerRate = employerRate;
+            return this;
+        }
+
+        public EmploymentInsuranceRateBuilder createdAt(LocalDateTime createdAt) {
+            this.createdAt = createdAt;
+            return this;
+        }
+
+        public EmploymentInsuranceRateBuilder updatedAt(LocalDateTime updatedAt) {
+            this.updatedAt = updatedAt;
+            return this;
+        }
+
+        public EmploymentInsuranceRate build() {
+            return new EmploymentInsuranceRate(id, industry, validFrom, validTo, employeeRate, employerRate,
+                    createdAt, updatedAt);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EmploymentInsuranceRate that = (EmploymentInsuranceRate) o;
+        return Objects.equals(id, that.id) &&
+                Objects.equals(industry, that.industry) &&
+                Objects.equals(validFrom, that.validFrom) &&
+                Objects.equals(validTo, that.validTo) &&
+                Objects.equals(employeeRate, that.employeeRate) &&
+                Objects.equals(employerRate, that.employerRate) &&
+                Objects.equals(createdAt, that.createdAt) &&
+                Objects.equals(updatedAt, that.updatedAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, industry, validFrom, validTo, employeeRate, employerRate, createdAt, updatedAt);
+    }
+
+    @Override
+    public String toString() {
+        return "EmploymentInsuranceRate{" +
+                "id=" + id +
+                ", industry='" + industry + '\'' +
+                ", validFrom=" + validFrom +
+                ", validTo=" + validTo +
+                ", employeeRate=" + employeeRate +
+                ", employerRate=" + employerRate +
+                ", createdAt=" + createdAt +
+                ", updatedAt=" + updatedAt +
+                '}';
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
@@ -12,6 +13,7 @@ import java.util.Objects;
  * 保险费等级实体类
  * 对应 premium_bracket 表
  * 用于健康保险、厚生年金保险的计算
+ * 每个等级属于某个都道府县在某一生效期间内的等级表（prefecture + valid_from）
  */
 @Table("premium_bracket")
 public class PremiumBracket {
@@ -40,6 +42,24 @@ public class PremiumBracket {
     @Column("pension")
     private BigDecimal pension;
 
+    /**
+     * 都道府县（罗马字小写，例如 kanagawa）
+     */
+    @Column("prefecture")
+    private String prefecture;
+
+    /**
+     * 生效日（含）
+     */
+    @Column("valid_from")
+    private LocalDate validFrom;
+
+    /**
+     * 失效日（不含），null 表示仍然有效
+     */
+    @Column("valid_to")
+    private LocalDate validTo;
+
     @Column("created_at")
     private LocalDateTime createdAt;
 
@@ -52,8 +72,9 @@ public class PremiumBracket {
 
     // 全参构造函数
     public PremiumBracket(Long id, String grade, Integer stdRem, Integer minAmount, Integer maxAmount,
-                          BigDecimal healthNoCare, BigDecimal healthCare, BigDecimal pension,
-                          LocalDateTime createdAt, LocalDateTime updatedAt) {
+                          BigDecimal healthNoCare, BigDecimal healthCare, BigDecimal pension, String prefecture,
+                          LocalDate validFrom, LocalDate validTo, LocalDateTime createdAt,
+                          LocalDateTime updatedAt) {
         this.id = id;
         this.grade = grade;
         this.stdRem = stdRem;
@@ -62,6 +83,9 @@ public class PremiumBracket {
         this.healthNoCare = healthNoCare;
         this.healthCare = healthCare;
         this.pension = pension;
+        this.prefecture = prefecture;
+        this.validFrom = validFrom;
+        this.validTo = validTo;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
@@ -139,6 +163,33 @@ public class PremiumBracket {
         return this;
     }
 
+    public String getPrefecture() {
+        return prefecture;
+    }
+
+    public PremiumBracket setPrefecture(String prefecture) {
+        this.prefecture = prefecture;
+        return this;
+    }
+
+    public LocalDate getValidFrom() {
+        return validFrom;
+    }
+
+    public PremiumBracket setValidFrom(LocalDate validFrom) {
+        this.validFrom = validFrom;
+        return this;
+    }
+
+    public LocalDate getValidTo() {
+        return validTo;
+    }
+
+    public PremiumBracket setValidTo(LocalDate validTo) {
+        this.validTo = validTo;
+        return this;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -159,53 +210,81 @@ public class PremiumBracket {
 
     // 流式编程风格的 with 方法，返回新实例
     public PremiumBracket withId(Long id) {
-        return new PremiumBracket(id, this.grade, this.stdRem, this.minAmount, this.maxAmount,
-                this.healthNoCare, this.healthCare, this.pension, this.createdAt, this.updatedAt);
+        return new PremiumBracket(id, this.grade, this.stdRem, this.minAmount, this.maxAmount, this.healthNoCare,
+                this.healthCare, this.pension, this.prefecture, this.validFrom, this.validTo, this.createdAt,
+                this.updatedAt);
     }
 
     public PremiumBracket withGrade(String grade) {
-        return new PremiumBracket(this.id, grade, this.stdRem, this.minAmount, this.maxAmount,
-                this.healthNoCare, this.healthCare, this.pension, this.createdAt, this.updatedAt);
+        return new PremiumBracket(this.id, grade, this.stdRem, this.minAmount, this.maxAmount, this.healthNoCare,
+                this.healthCare, this.pension, this.prefecture, this.validFrom, this.validTo, this.createdAt,
+                this.updatedAt);
     }
 
     public PremiumBracket withStdRem(Integer stdRem) {
-        return new PremiumBracket(this.id, this.grade, stdRem, this.minAmount, this.maxAmount,
-                this.healthNoCare, this.healthCare, this.pension, this.createdAt, this.updatedAt);
+        return new PremiumBracket(this.id, this.grade, stdRem, this.minAmount, this.maxAmount, this.healthNoCare,
+                this.healthCare, this.pension, this.prefecture, this.validFrom, this.validTo, this.createdAt,
+                this.updatedAt);
     }
 
     public PremiumBracket withMinAmount(Integer minAmount) {
-        return new PremiumBracket(this.id, this.grade, this.stdRem, minAmount, this.maxAmount,
-                this.healthNoCare, this.healthCare, this.pension, this.createdAt, this.updatedAt);
+        return new PremiumBracket(this.id, this.grade, this.stdRem, minAmount, this.maxAmount, this.healthNoCare,
+                this.healthCare, this.pension, this.prefecture, this.validFrom, this.validTo, this.createdAt,
+                this.updatedAt);
     }
 
     public PremiumBracket withMaxAmount(Integer maxAmount) {
-        return new PremiumBracket(this.id, this.grade, this.stdRem, this.minAmount, maxAmount,
-                this.healthNoCare, this.healthCare, this.pension, this.createdAt, this.updatedAt);
+        return new PremiumBracket(this.id, this.grade, this.stdRem, this.minAmount, maxAmount, this.healthNoCare,
+                this.healthCare, this.pension, this.prefecture, this.validFrom, this.validTo, this.createdAt,
+                this.updatedAt);
     }
 
     public PremiumBracket withHealthNoCare(BigDecimal healthNoCare) {
-        return new PremiumBracket(this.id, this.grade, this.stdRem, this.minAmount, this.maxAmount,
-                healthNoCare, this.healthCare, this.pension, this.createdAt, this.updatedAt);
+        return new PremiumBracket(this.id, this.grade, this.stdRem, this.minAmount, this.maxAmount, healthNoCare,
+                this.healthCare, this.pension, this.prefecture, this.validFrom, this.validTo, this.createdAt,
+                this.updatedAt);
     }
 
     public PremiumBracket withHealthCare(BigDecimal healthCare) {
         return new PremiumBracket(this.id, this.grade, this.stdRem, this.minAmount, this.maxAmount,
-                this.healthNoCare, healthCare, this.pension, this.createdAt, this.updatedAt);
+                this.healthNoCare, healthCare, this.pension, this.prefecture, this.validFrom, this.validTo,
+                this.createdAt, this.updatedAt);
     }
 
     public PremiumBracket withPension(BigDecimal pension) {
         return new PremiumBracket(this.id, this.grade, this.stdRem, this.minAmount, this.maxAmount,
-                this.healthNoCare, this.healthCare, pension, this.createdAt, this.updatedAt);
+                this.healthNoCare, this.healthCare, pension, this.prefecture, this.validFrom, this.validTo,
+                this.createdAt, this.updatedAt);
+    }
+
+    public PremiumBracket withPrefecture(String prefecture) {
+        return new PremiumBracket(this.id, this.grade, this.stdRem, this.minAmount, this.maxAmount,
+                this.healthNoCare, this.healthCare, this.pension, prefecture, this.validFrom, this.validTo,
+                this.createdAt, this.updatedAt);
+    }
+
+    public PremiumBracket withValidFrom(LocalDate validFrom) {
+        return new PremiumBracket(this.id, this.grade, this.stdRem, this.minAmount, this.maxAmount,
+                this.healthNoCare, this.healthCare, this.pension, this.prefecture, validFrom, this.validTo,
+                this.createdAt, this.updatedAt);
+    }
+
+    public PremiumBracket withValidTo(LocalDate validTo) {
+        return new PremiumBracket(this.id, this.grade, this.stdRem, this.minAmount, this.maxAmount,
+                this.healthNoCare, this.healthCare, this.pension, this.prefecture, this.validFrom, validTo,
+                this.createdAt, this.updatedAt);
     }
 
     public PremiumBracket withCreatedAt(LocalDateTime createdAt) {
         return new PremiumBracket(this.id, this.grade, this.stdRem, this.minAmount, this.maxAmount,
-                this.healthNoCare, this.healthCare, this.pension, createdAt, this.updatedAt);
+                this.healthNoCare, this.healthCare, this.pension, this.prefecture, this.validFrom, this.validTo,
+                createdAt, this.updatedAt);
     }
 
     public PremiumBracket withUpdatedAt(LocalDateTime updatedAt) {
         return new PremiumBracket(this.id, this.grade, this.stdRem, this.minAmount, this.maxAmount,
-                this.healthNoCare, this.healthCare, this.pension, this.createdAt, updatedAt);
+                this.healthNoCare, this.healthCare, this.pension, this.prefecture, this.validFrom, this.validTo,
+                this.createdAt, updatedAt);
     }
 
     // 流式编程风格的 builder 方法
@@ -222,6 +301,9 @@ public class PremiumBracket {
         private BigDecimal healthNoCare;
         private BigDecimal healthCare;
         private BigDecimal pension;
+        private String prefecture;
+        private LocalDate validFrom;
+        private LocalDate validTo;
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
 
@@ -265,6 +347,21 @@ public class PremiumBracket {
             return this;
         }
 
+        public PremiumBracketBuilder prefecture(String prefecture) {
+            this.prefecture = prefecture;
+            return this;
+        }
+
+        public PremiumBracketBuilder validFrom(LocalDate validFrom) {
+            this.validFrom = validFrom;
+            return this;
+        }
+
+        public PremiumBracketBuilder validTo(LocalDate validTo) {
+            this.validTo = validTo;
+            return this;
+        }
+
         public PremiumBracketBuilder createdAt(LocalDateTime createdAt) {
             this.createdAt = createdAt;
             return this;
@@ -276,8 +373,8 @@ public class PremiumBracket {
         }
 
         public PremiumBracket build() {
-            return new PremiumBracket(id, grade, stdRem, minAmount, maxAmount,
-                    healthNoCare, healthCare, pension, createdAt, updatedAt);
+            return new PremiumBracket(id, grade, stdRem, minAmount, maxAmount, healthNoCare, healthCare, pension,
+                    prefecture, validFrom, validTo, createdAt, updatedAt);
         }
     }
 
@@ -294,13 +391,17 @@ public class PremiumBracket {
                 Objects.equals(healthNoCare, that.healthNoCare) &&
                 Objects.equals(healthCare, that.healthCare) &&
                 Objects.equals(pension, that.pension) &&
+                Objects.equals(prefecture, that.prefecture) &&
+                Objects.equals(validFrom, that.validFrom) &&
+                Objects.equals(validTo, that.validTo) &&
                 Objects.equals(createdAt, that.createdAt) &&
                 Objects.equals(updatedAt, that.updatedAt);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, grade, stdRem, minAmount, maxAmount, healthNoCare, healthCare, pension, createdAt, updatedAt);
+        return Objects.hash(id, grade, stdRem, minAmount, maxAmount, healthNoCare, healthCare, pension,
+                prefecture, validFrom, validTo, createdAt, updatedAt);
     }
 
     @Override
@@ -314,6 +415,9 @@ public class PremiumBracket {
                 ", healthNoCare=" + healthNoCare +
                 ", healthCare=" + healthCare +
                 ", pension=" + pension +
+                ", prefecture='" + prefecture + '\'' +
+                ", validFrom=" + validFrom +
+                ", validTo=" + validTo +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
                 '}';
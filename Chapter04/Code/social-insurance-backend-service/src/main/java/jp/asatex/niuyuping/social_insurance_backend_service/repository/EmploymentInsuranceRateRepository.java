@@ -0,0 +1,13 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.repository;
+
+import jp.asatex.niuyuping.social_insurance_backend_service.entity.EmploymentInsuranceRate;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 雇用保险费率 Repository 接口
+ * 费率表只有“事业类别 × 年度”条记录，查询时由 Domain 层的内存费率表解析，不按条件访问数据库
+ */
+@Repository
+public interface EmploymentInsuranceRateRepository extends ReactiveCrudRepository<EmploymentInsuranceRate, Long> {
+}
@@ -8,40 +8,39 @@ import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
+
 /**
  * 保险费等级 Repository 接口
  * 提供响应式数据访问方法
  * Spring Data R2DBC 会自动实现基础 CRUD 方法
+ * 等级只在同一张等级表（都道府县 + 生效日）内唯一，按等级或金额的查询都以等级表为范围
  */
 @Repository
 public interface PremiumBracketRepository extends ReactiveCrudRepository<PremiumBracket, Long>,
         ReactiveSortingRepository<PremiumBracket, Long> {
 
     /**
-     * 根据等级查找保险费等级信息
+     * 根据自然键（都道府县、生效日、等级）查找保险费等级信息
      *
+     * @param prefecture 都道府县
+     * @param validFrom 等级表的生效日
      * @param grade 等级
      * @return Mono<PremiumBracket> 保险费等级信息
      */
-    Mono<PremiumBracket> findByGrade(String grade);
-
-    /**
-     * 根据标准报酬查找保险费等级信息
-     *
-     * @param stdRem 标准报酬
-     * @return Mono<PremiumBracket> 保险费等级信息
-     */
-    Mono<PremiumBracket> findByStdRem(Integer stdRem);
+    Mono<PremiumBracket> findByPrefectureAndValidFromAndGrade(String prefecture, LocalDate validFrom, String grade);
 
     /**
-     * 根据金额范围查找对应的保险费等级
-     * 查找 min_amount <= amount < max_amount 的记录
+     * 查找指定都道府县在基准日适用的等级表中，金额所在的保险费等级
+     * 查找 valid_from <= asOf < valid_to 且 min_amount <= amount < max_amount 的记录（使用 GiST 排他约束的索引）
      *
+     * @param prefecture 都道府县
+     * @param asOf 基准日
      * @param amount 金额
      * @return Mono<PremiumBracket> 保险费等级信息
      */
-    @Query("SELECT * FROM premium_bracket WHERE $1 >= min_amount AND $1 < max_amount LIMIT 1")
-    Mono<PremiumBracket> findByAmount(Integer amount);
+    @Query("SELECT * FROM premium_bracket WHERE prefecture = $1 AND validity @> $2 AND amount_range @> $3 LIMIT 1")
+    Mono<PremiumBracket> findByPrefectureAsOfAndAmount(String prefecture, LocalDate asOf, Integer amount);
 
     /**
      * 查找所有有效的保险费等级（按标准报酬排序）
@@ -61,19 +60,23 @@ public interface PremiumBracketRepository extends ReactiveCrudRepository<Premium
     Flux<PremiumBracket> findByMinAmountLessThanEqualAndMaxAmountGreaterThan(Integer minAmount, Integer maxAmount);
 
     /**
-     * 检查等级是否存在
+     * 检查指定等级表中的等级是否存在
      *
+     * @param prefecture 都道府县
+     * @param validFrom 等级表的生效日
      * @param grade 等级
      * @return Mono<Boolean> 是否存在
      */
-    Mono<Boolean> existsByGrade(String grade);
+    Mono<Boolean> existsByPrefectureAndValidFromAndGrade(String prefecture, LocalDate validFrom, String grade);
 
     /**
-     * 根据等级删除保险费等级信息
+     * 删除指定等级表中的等级
      *
+     * @param prefecture 都道府县
+     * @param validFrom 等级表的生效日
      * @param grade 等级
      * @return Mono<Void>
      */
-    Mono<Void> deleteByGrade(String grade);
+    Mono<Void> deleteByPrefectureAndValidFromAndGrade(String prefecture, LocalDate validFrom, String grade);
 }
 
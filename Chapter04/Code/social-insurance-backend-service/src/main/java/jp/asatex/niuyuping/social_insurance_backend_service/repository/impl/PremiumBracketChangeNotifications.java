@@ -0,0 +1,82 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.repository.impl;
+
+import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * 保险费等级变更通知
+ * 通过 PostgreSQL LISTEN/NOTIFY 订阅 premium_bracket 表的数据变更（由 V2 迁移中的触发器发送）
+ */
+@Repository
+public class PremiumBracketChangeNotifications {
+
+    /**
+     * 通知频道名称，与 notify_premium_bracket_changed() 触发器函数保持一致
+     */
+    public static final String CHANNEL = "premium_bracket_changed";
+
+    /**
+     * 每次 LISTEN 建立成功后发出的信号，订阅方据此补齐断线期间可能错过的变更
+     */
+    public static final String SUBSCRIBED = "SUBSCRIBED";
+
+    private static final Logger log = LoggerFactory.getLogger(PremiumBracketChangeNotifications.class);
+
+    private final ConnectionFactory connectionFactory;
+
+    public PremiumBracketChangeNotifications(ConnectionFactory connectionFactory) {
+        this.connectionFactory = connectionFactory;
+    }
+
+    /**
+     * 流式订阅：等级数据变更通知
+     * 使用不占用连接池的独立连接执行 LISTEN，连接断开或出错时按退避策略自动重新订阅
+     * 非 PostgreSQL 数据源不支持通知，直接返回空流
+     *
+     * @return Flux<String> 变更通知（触发变更的操作类型，或 SUBSCRIBED）
+     */
+    public Flux<String> listen() {
+        if (!(unwrap(connectionFactory) instanceof PostgresqlConnectionFactory postgresqlConnectionFactory)) {
+            log.info("当前数据源不支持 LISTEN/NOTIFY，保险费等级变更通知未启用");
+            return Flux.empty();
+        }
+        return Flux.usingWhen(postgresqlConnectionFactory.create(),
+                        this::listenOn,
+                        PostgresqlConnection::close)
+                .doOnError(error -> log.warn("保险费等级变更通知订阅中断，稍后重新订阅", error))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(30)))
+                .repeatWhen(completed -> completed.delayElements(Duration.ofSeconds(1)));
+    }
+
+    private Flux<String> listenOn(PostgresqlConnection connection) {
+        return connection.createStatement("LISTEN " + CHANNEL)
+                .execute()
+                .flatMap(PostgresqlResult::getRowsUpdated)
+                .thenMany(Flux.just(SUBSCRIBED)
+                        .concatWith(connection.getNotifications()
+                                .map(notification -> Objects.requireNonNullElse(notification.getParameter(), CHANNEL))));
+    }
+
+    /**
+     * 剥离连接池等包装层，获取底层 ConnectionFactory
+     */
+    private static ConnectionFactory unwrap(ConnectionFactory connectionFactory) {
+        ConnectionFactory candidate = connectionFactory;
+        while (candidate instanceof Wrapped<?> wrapped && wrapped.unwrap() instanceof ConnectionFactory inner) {
+            candidate = inner;
+        }
+        return candidate;
+    }
+}
@@ -5,11 +5,18 @@ import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
 import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.query.Update;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 
 /**
  * 保险费等级 Repository 自定义实现类
@@ -19,6 +26,46 @@ import java.time.LocalDateTime;
 @Repository
 public class PremiumBracketRepositoryImpl {
 
+    private static final String INSERT_INTO = """
+            INSERT INTO premium_bracket
+                (grade, std_rem, min_amount, max_amount, health_no_care, health_care, pension,
+                 prefecture, valid_from, valid_to)
+            VALUES
+            """;
+
+    /**
+     * INSERT_INTO 中的列数
+     */
+    private static final int INSERT_COLUMN_COUNT = 10;
+
+    /**
+     * 批量导入时每条多行 INSERT 语句包含的行数（绑定参数数量需低于 PostgreSQL 的 32767 上限）
+     */
+    private static final int BULK_INSERT_ROWS = 1000;
+
+    private static final String INSERT_ON_CONFLICT = INSERT_INTO + """
+            ($1, $2, $3, $4, $5, $6, $7, $8, $9, $10)
+            ON CONFLICT (prefecture, valid_from, grade)
+            """;
+
+    private static final String UPSERT_SQL = INSERT_ON_CONFLICT + """
+            DO UPDATE SET
+                std_rem = EXCLUDED.std_rem,
+                min_amount = EXCLUDED.min_amount,
+                max_amount = EXCLUDED.max_amount,
+                health_no_care = EXCLUDED.health_no_care,
+                health_care = EXCLUDED.health_care,
+                pension = EXCLUDED.pension,
+                valid_to = EXCLUDED.valid_to,
+                updated_at = CURRENT_TIMESTAMP
+            RETURNING *
+            """;
+
+    private static final String INSERT_DO_NOTHING_SQL = INSERT_ON_CONFLICT + """
+            DO NOTHING
+            RETURNING *
+            """;
+
     private final R2dbcEntityTemplate r2dbcEntityTemplate;
 
     public PremiumBracketRepositoryImpl(R2dbcEntityTemplate r2dbcEntityTemplate) {
@@ -60,7 +107,10 @@ public class PremiumBracketRepositoryImpl {
                             .set("max_amount", e.getMaxAmount())
                             .set("health_no_care", e.getHealthNoCare())
                             .set("health_care", e.getHealthCare())
-                            .set("pension", e.getPension());
+                            .set("pension", e.getPension())
+                            .set("prefecture", e.getPrefecture())
+                            .set("valid_from", e.getValidFrom())
+                            .set("valid_to", e.getValidTo());
                     return r2dbcEntityTemplate.update(PremiumBracket.class)
                             .matching(Query.query(Criteria.where("id").is(e.getId())))
                             .apply(update)
@@ -68,21 +118,6 @@ public class PremiumBracketRepositoryImpl {
                 });
     }
 
-    /**
-     * 根据金额范围查找对应的保险费等级（流式查询）
-     *
-     * @param amount 金额
-     * @return Mono<PremiumBracket> 保险费等级信息
-     */
-    public Mono<PremiumBracket> findBracketByAmount(Integer amount) {
-        return r2dbcEntityTemplate.select(PremiumBracket.class)
-                .matching(Query.query(
-                        Criteria.where("min_amount").lessThanOrEquals(amount)
-                                .and(Criteria.where("max_amount").greaterThan(amount))
-                ))
-                .first();
-    }
-
     /**
      * 流式查询：根据标准报酬范围查找保险费等级列表
      *
@@ -100,15 +135,19 @@ public class PremiumBracketRepositoryImpl {
     }
 
     /**
-     * 流式更新：批量更新保险费等级的标准报酬
+     * 流式更新：更新指定等级表中某个等级的标准报酬
      *
+     * @param prefecture 都道府县
+     * @param validFrom 等级表的生效日
      * @param grade 等级
      * @param newStdRem 新的标准报酬
      * @return Mono<Long> 更新的记录数
      */
-    public Mono<Long> updateStdRemByGrade(String grade, Integer newStdRem) {
+    public Mono<Long> updateStdRemByGrade(String prefecture, LocalDate validFrom, String grade, Integer newStdRem) {
         return r2dbcEntityTemplate.update(PremiumBracket.class)
-                .matching(Query.query(Criteria.where("grade").is(grade)))
+                .matching(Query.query(Criteria.where("prefecture").is(prefecture)
+                        .and(Criteria.where("valid_from").is(validFrom))
+                        .and(Criteria.where("grade").is(grade))))
                 .apply(Update.update("std_rem", newStdRem)
                         .set("updated_at", LocalDateTime.now()));
     }
@@ -143,42 +182,173 @@ public class PremiumBracketRepositoryImpl {
                 .all();
     }
 
+    /**
+     * 批量导入等级表（单个事务）
+     * 对导入数据中的每张等级表（都道府县 × 生效日），先删除同一版本的旧数据，
+     * 再把该都道府县仍在生效的前一版本的失效日截止到新版本的生效日，
+     * 最后以多行 INSERT 语句分批写入全部等级；任一步失败时整体回滚，
+     * 提交后由语句级触发器通知各节点重建索引，新旧版本在提交时原子切换
+     *
+     * @param brackets 保险费等级列表（prefecture、validFrom、grade 为必填）
+     * @return Mono<Long> 写入的等级数
+     */
+    @Transactional
+    public Mono<Long> replaceRateTables(List<PremiumBracket> brackets) {
+        List<TableVersion> versions = brackets.stream()
+                .map(TableVersion::of)
+                .distinct()
+                .sorted(Comparator.comparing(TableVersion::prefecture).thenComparing(TableVersion::validFrom))
+                .toList();
+        List<List<PremiumBracket>> batches = new ArrayList<>();
+        for (int from = 0; from < brackets.size(); from += BULK_INSERT_ROWS) {
+            batches.add(brackets.subList(from, Math.min(from + BULK_INSERT_ROWS, brackets.size())));
+        }
+        return Flux.fromIterable(versions)
+                .concatMap(this::retireVersion)
+                .thenMany(Flux.fromIterable(batches).concatMap(this::insertBatch))
+                .reduce(0L, Long::sum);
+    }
+
+    /**
+     * 删除指定版本的旧数据，并截止同一都道府县中与新版本重叠的前一版本
+     *
+     * @param version 等级表版本
+     * @return Mono<Long> 受影响的记录数
+     */
+    private Mono<Long> retireVersion(TableVersion version) {
+        DatabaseClient databaseClient = r2dbcEntityTemplate.getDatabaseClient();
+        return databaseClient.sql("DELETE FROM premium_bracket WHERE prefecture = $1 AND valid_from = $2")
+                .bind(0, version.prefecture())
+                .bind(1, version.validFrom())
+                .fetch()
+                .rowsUpdated()
+                .then(databaseClient.sql("""
+                                UPDATE premium_bracket SET valid_to = $2, updated_at = CURRENT_TIMESTAMP
+                                WHERE prefecture = $1 AND valid_from < $2 AND (valid_to IS NULL OR valid_to > $2)
+                                """)
+                        .bind(0, version.prefecture())
+                        .bind(1, version.validFrom())
+                        .fetch()
+                        .rowsUpdated());
+    }
+
+    /**
+     * 以一条多行 INSERT 语句写入一批等级
+     *
+     * @param batch 保险费等级列表（不超过 BULK_INSERT_ROWS 行）
+     * @return Mono<Long> 写入的记录数
+     */
+    private Mono<Long> insertBatch(List<PremiumBracket> batch) {
+        StringBuilder sql = new StringBuilder(INSERT_INTO);
+        for (int row = 0; row < batch.size(); row++) {
+            sql.append(row == 0 ? "(" : ",\n(");
+            for (int column = 1; column <= INSERT_COLUMN_COUNT; column++) {
+                if (column > 1) {
+                    sql.append(", ");
+                }
+                sql.append('$').append(row * INSERT_COLUMN_COUNT + column);
+            }
+            sql.append(')');
+        }
+        DatabaseClient.GenericExecuteSpec spec = r2dbcEntityTemplate.getDatabaseClient().sql(sql.toString());
+        for (int row = 0; row < batch.size(); row++) {
+            spec = bindColumns(spec, batch.get(row), row * INSERT_COLUMN_COUNT);
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
     /**
      * 流式操作：检查并保存（如果不存在）
+     * 使用单条 INSERT ... ON CONFLICT DO NOTHING 语句，由唯一约束判断是否已存在，
+     * 并发写入时不会重复插入；已存在时再查询并返回现有记录
      *
-     * @param entity 保险费等级实体
-     * @return Mono<PremiumBracket> 保存后的实体
+     * @param entity 保险费等级实体（prefecture、validFrom、grade 为必填）
+     * @return Mono<PremiumBracket> 保存后的实体或已存在的实体
      */
     public Mono<PremiumBracket> saveIfNotExists(PremiumBracket entity) {
-        return r2dbcEntityTemplate.select(PremiumBracket.class)
-                .matching(Query.query(Criteria.where("grade").is(entity.getGrade())))
-                .one()
-                .cast(PremiumBracket.class)
-                .switchIfEmpty(saveWithTimestamp(entity));
+        return Mono.fromCallable(() -> requireNaturalKey(entity))
+                .flatMap(e -> bindColumns(r2dbcEntityTemplate.getDatabaseClient().sql(INSERT_DO_NOTHING_SQL), e)
+                        .map((row, metadata) -> r2dbcEntityTemplate.getConverter().read(PremiumBracket.class, row, metadata))
+                        .first()
+                        .switchIfEmpty(Mono.defer(() -> findByNaturalKey(e))));
     }
 
     /**
      * 流式操作：根据等级更新或创建
+     * 使用单条 INSERT ... ON CONFLICT DO UPDATE ... RETURNING * 语句，一次往返完成，
+     * 由数据库保证并发写入同一等级时不会丢失更新
      *
-     * @param entity 保险费等级实体
+     * @param entity 保险费等级实体（prefecture、validFrom、grade 为必填）
      * @return Mono<PremiumBracket> 更新或创建后的实体
      */
     public Mono<PremiumBracket> upsertByGrade(PremiumBracket entity) {
+        return Mono.fromCallable(() -> requireNaturalKey(entity))
+                .flatMap(e -> bindColumns(r2dbcEntityTemplate.getDatabaseClient().sql(UPSERT_SQL), e)
+                        .map((row, metadata) -> r2dbcEntityTemplate.getConverter().read(PremiumBracket.class, row, metadata))
+                        .first());
+    }
+
+    /**
+     * 根据自然键（都道府县、生效日、等级）查找保险费等级
+     *
+     * @param entity 保险费等级实体
+     * @return Mono<PremiumBracket> 保险费等级信息
+     */
+    private Mono<PremiumBracket> findByNaturalKey(PremiumBracket entity) {
         return r2dbcEntityTemplate.select(PremiumBracket.class)
-                .matching(Query.query(Criteria.where("grade").is(entity.getGrade())))
-                .one()
-                .cast(PremiumBracket.class)
-                .flatMap(existing -> {
-                    PremiumBracket updated = existing
-                            .setStdRem(entity.getStdRem())
-                            .setMinAmount(entity.getMinAmount())
-                            .setMaxAmount(entity.getMaxAmount())
-                            .setHealthNoCare(entity.getHealthNoCare())
-                            .setHealthCare(entity.getHealthCare())
-                            .setPension(entity.getPension());
-                    return updateWithTimestamp(updated);
-                })
-                .switchIfEmpty(saveWithTimestamp(entity));
+                .matching(Query.query(Criteria.where("prefecture").is(entity.getPrefecture())
+                        .and(Criteria.where("valid_from").is(entity.getValidFrom()))
+                        .and(Criteria.where("grade").is(entity.getGrade()))))
+                .one();
+    }
+
+    private static PremiumBracket requireNaturalKey(PremiumBracket entity) {
+        if (entity.getPrefecture() == null || entity.getValidFrom() == null || entity.getGrade() == null) {
+            throw new IllegalArgumentException("都道府县、生效日和等级不能为空");
+        }
+        return entity;
     }
-}
 
+    /**
+     * 按 INSERT_INTO 中的列顺序绑定参数，允许为空的列绑定为 NULL
+     */
+    private static DatabaseClient.GenericExecuteSpec bindColumns(DatabaseClient.GenericExecuteSpec spec,
+                                                                 PremiumBracket entity) {
+        return bindColumns(spec, entity, 0);
+    }
+
+    /**
+     * 从 offset 开始按 INSERT_INTO 中的列顺序绑定一行参数
+     */
+    private static DatabaseClient.GenericExecuteSpec bindColumns(DatabaseClient.GenericExecuteSpec spec,
+                                                                 PremiumBracket entity, int offset) {
+        spec = spec.bind(offset, entity.getGrade());
+        spec = bindNullable(spec, offset + 1, entity.getStdRem(), Integer.class);
+        spec = bindNullable(spec, offset + 2, entity.getMinAmount(), Integer.class);
+        spec = bindNullable(spec, offset + 3, entity.getMaxAmount(), Integer.class);
+        spec = bindNullable(spec, offset + 4, entity.getHealthNoCare(), BigDecimal.class);
+        spec = bindNullable(spec, offset + 5, entity.getHealthCare(), BigDecimal.class);
+        spec = bindNullable(spec, offset + 6, entity.getPension(), BigDecimal.class);
+        spec = spec.bind(offset + 7, entity.getPrefecture())
+                .bind(offset + 8, entity.getValidFrom());
+        return bindNullable(spec, offset + 9, entity.getValidTo(), LocalDate.class);
+    }
+
+    /**
+     * 绑定允许为空的参数：为 null 时按列类型绑定 NULL，否则直接绑定值
+     */
+    private static <T> DatabaseClient.GenericExecuteSpec bindNullable(DatabaseClient.GenericExecuteSpec spec,
+                                                                      int index, T value, Class<T> type) {
+        return value == null ? spec.bindNull(index, type) : spec.bind(index, value);
+    }
+
+    /**
+     * 等级表版本（都道府县 × 生效日）
+     */
+    private record TableVersion(String prefecture, LocalDate validFrom) {
+
+        static TableVersion of(PremiumBracket bracket) {
+            return new TableVersion(bracket.getPrefecture(), bracket.getValidFrom());
+        }
+    }
+}
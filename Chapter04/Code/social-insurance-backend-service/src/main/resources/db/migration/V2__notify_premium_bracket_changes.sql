@@ -0,0 +1,20 @@
+-- ===========================================
+-- 保险费等级数据变更通知
+-- 任何写入（包括直接执行的 SQL）都会通过 pg_notify 通知各服务节点重建内存索引
+-- ===========================================
+
+-- 创建触发器函数，用于发送变更通知
+-- 通知在事务提交时才会送达，同一事务内相同内容的通知会被合并
+CREATE OR REPLACE FUNCTION notify_premium_bracket_changed()
+RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM pg_notify('premium_bracket_changed', TG_OP);
+    RETURN NULL;
+END;
+$$ language 'plpgsql';
+
+-- 创建触发器（语句级，批量写入只发送一次通知）
+CREATE TRIGGER notify_premium_bracket_changed
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON premium_bracket
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notify_premium_bracket_changed();
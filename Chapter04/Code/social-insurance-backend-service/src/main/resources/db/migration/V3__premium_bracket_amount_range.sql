@@ -0,0 +1,18 @@
+-- ===========================================
+-- 保险费等级金额区间（int4range）
+-- 用区间类型表示 [min_amount, max_amount)，按金额查找等级时使用 GiST 索引的 @> 运算，
+-- 不再依赖只能有效利用首列的 (min_amount, max_amount) 组合 B-tree 索引
+-- ===========================================
+
+-- 添加由 min_amount / max_amount 自动生成的金额区间列（左闭右开）
+ALTER TABLE premium_bracket
+    ADD COLUMN amount_range INT4RANGE GENERATED ALWAYS AS (int4range(min_amount, max_amount, '[)')) STORED;
+
+COMMENT ON COLUMN premium_bracket.amount_range IS '金额区间 [min_amount, max_amount)，由最小值和最大值自动生成';
+
+-- 排他约束：任意两个等级的金额区间不得重叠（约束自带 GiST 索引，同时用于 @> 查询）
+ALTER TABLE premium_bracket
+    ADD CONSTRAINT ex_premium_bracket_amount_range EXCLUDE USING GIST (amount_range WITH &&);
+
+-- 组合 B-tree 索引已被 GiST 索引取代
+DROP INDEX IF EXISTS idx_premium_bracket_min_max;
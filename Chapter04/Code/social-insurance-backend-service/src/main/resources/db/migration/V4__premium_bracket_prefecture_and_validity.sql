@@ -0,0 +1,36 @@
+-- ===========================================
+-- 多都道府县、按生效期间管理的保险费等级表
+-- 每个等级属于某个都道府县在某一生效期间 [valid_from, valid_to) 内的等级表，
+-- 用于跨年度、跨都道府县的追溯计算
+-- ===========================================
+
+-- btree_gist 扩展：排他约束中的标量列（prefecture）需要 GiST 等值运算符
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- 添加都道府县与生效期间列（既有数据为 2025年3月起适用的神奈川县等级表）
+ALTER TABLE premium_bracket ADD COLUMN prefecture VARCHAR(20) NOT NULL DEFAULT 'kanagawa';
+ALTER TABLE premium_bracket ADD COLUMN valid_from DATE NOT NULL DEFAULT DATE '2025-03-01';
+ALTER TABLE premium_bracket ADD COLUMN valid_to DATE;
+
+COMMENT ON TABLE premium_bracket IS '社会保险费等级表（按都道府县和生效期间管理），用于健康保险、厚生年金保险的计算';
+COMMENT ON COLUMN premium_bracket.prefecture IS '都道府县（罗马字小写，例如 kanagawa）';
+COMMENT ON COLUMN premium_bracket.valid_from IS '生效日（含）';
+COMMENT ON COLUMN premium_bracket.valid_to IS '失效日（不含），NULL 表示仍然有效';
+
+ALTER TABLE premium_bracket
+    ADD CONSTRAINT ck_premium_bracket_validity CHECK (valid_to IS NULL OR valid_to > valid_from);
+
+-- 由生效期间自动生成的日期区间列（左闭右开，valid_to 为 NULL 时无上限）
+ALTER TABLE premium_bracket
+    ADD COLUMN validity DATERANGE GENERATED ALWAYS AS (daterange(valid_from, valid_to, '[)')) STORED;
+
+-- 等级在同一都道府县、同一生效期间内唯一（取代原来全表唯一的 grade）
+ALTER TABLE premium_bracket DROP CONSTRAINT IF EXISTS premium_bracket_grade_key;
+ALTER TABLE premium_bracket
+    ADD CONSTRAINT uk_premium_bracket_prefecture_valid_from_grade UNIQUE (prefecture, valid_from, grade);
+
+-- 排他约束：同一都道府县在重叠的生效期间内，金额区间不得重叠（取代 V3 中只按金额区间的约束）
+ALTER TABLE premium_bracket DROP CONSTRAINT IF EXISTS ex_premium_bracket_amount_range;
+ALTER TABLE premium_bracket
+    ADD CONSTRAINT ex_premium_bracket_prefecture_validity_amount_range
+    EXCLUDE USING GIST (prefecture WITH =, validity WITH &&, amount_range WITH &&);
@@ -0,0 +1,36 @@
+-- ===========================================
+-- 雇用保险费率表
+-- 按事业类别（industry）和生效期间 [valid_from, valid_to) 管理，费率以千分比（‰）表示；
+-- 保险费 = 工资 × 费率，雇员与雇主按各自的费率分别承担（雇主费率包含雇用保险二事业部分）
+-- ===========================================
+
+-- 创建雇用保险费率表
+CREATE TABLE employment_insurance_rate (
+    id BIGSERIAL PRIMARY KEY,
+    industry VARCHAR(20) NOT NULL,
+    valid_from DATE NOT NULL,
+    valid_to DATE,
+    employee_rate NUMERIC(6, 3) NOT NULL,
+    employer_rate NUMERIC(6, 3) NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_employment_insurance_rate_industry_valid_from UNIQUE (industry, valid_from),
+    CONSTRAINT ck_employment_insurance_rate_validity CHECK (valid_to IS NULL OR valid_to > valid_from)
+);
+
+-- 添加表注释
+COMMENT ON TABLE employment_insurance_rate IS '雇用保险费率表（按事业类别和生效期间管理）';
+COMMENT ON COLUMN employment_insurance_rate.industry IS '事业类别（general：一般事业，agriculture：农林水产・清酒制造事业，construction：建设事业）';
+COMMENT ON COLUMN employment_insurance_rate.valid_from IS '生效日（含）';
+COMMENT ON COLUMN employment_insurance_rate.valid_to IS '失效日（不含），NULL 表示仍然有效';
+COMMENT ON COLUMN employment_insurance_rate.employee_rate IS '雇员负担费率（‰）';
+COMMENT ON COLUMN employment_insurance_rate.employer_rate IS '雇主负担费率（‰，含雇用保险二事业）';
+
+-- 插入令和6（2024）年度、令和7（2025）年度雇用保险费率
+INSERT INTO employment_insurance_rate (industry, valid_from, valid_to, employee_rate, employer_rate) VALUES
+('general', DATE '2024-04-01', DATE '2025-04-01', 6.000, 9.500),
+('agriculture', DATE '2024-04-01', DATE '2025-04-01', 7.000, 10.500),
+('construction', DATE '2024-04-01', DATE '2025-04-01', 7.000, 11.500),
+('general', DATE '2025-04-01', NULL, 5.500, 9.000),
+('agriculture', DATE '2025-04-01', NULL, 6.500, 10.000),
+('construction', DATE '2025-04-01', NULL, 6.500, 11.000);
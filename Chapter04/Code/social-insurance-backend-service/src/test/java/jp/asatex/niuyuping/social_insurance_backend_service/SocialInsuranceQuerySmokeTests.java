@@ -0,0 +1,209 @@
+package jp.asatex.niuyuping.social_insurance_backend_service;
+
+import jp.asatex.niuyuping.social_insurance_backend_service.controller.dto.SocialInsuranceBatchResultDto;
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.BracketIndexHolder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * /socialInsuranceQuery 冒烟测试
+ * 以 embedded profile（H2）启动完整服务并通过 HTTP 查询，
+ * 在 JVM（./gradlew test）和 native image（./gradlew nativeTest）中都会运行，
+ * 用于确认 native 构建的运行时提示覆盖了请求处理、实体映射和 JSON 序列化
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("embedded")
+class SocialInsuranceQuerySmokeTests {
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Autowired
+    private BracketIndexHolder bracketIndexHolder;
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        // 索引在 ApplicationReadyEvent 后异步加载；H2 不支持回退路径的区间查询，先同步加载一次
+        bracketIndexHolder.reload().block();
+        webTestClient = WebTestClient.bindToServer().baseUrl("http://localhost:" + port).build();
+    }
+
+    @Test
+    void answersSocialInsuranceQuery() {
+        // 月薪 700000 属于 37 级（695000 ~ 730000），45 岁需要缴纳介护保险
+        webTestClient.get()
+                .uri("/socialInsuranceQuery?monthlySalary=700000&age=45&prefecture=kanagawa&asOf=2025-04-01")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.employeeCost.healthCostWithNoCare").isEqualTo(35216.0)
+                .jsonPath("$.employeeCost.careCost").isEqualTo(5644.5)
+                .jsonPath("$.employeeCost.pension").isEqualTo(59475.0)
+                .jsonPath("$.employerCost.healthCostWithNoCare").isEqualTo(35216.0)
+                .jsonPath("$.employerCost.careCost").isEqualTo(5644.5)
+                .jsonPath("$.employerCost.pension").isEqualTo(59475.0)
+                .jsonPath("$.employmentInsurance").doesNotExist();
+    }
+
+    @Test
+    void fallsBackToCodecWhenJsonIsNotAccepted() {
+        // 不接受 JSON 时不写出预先编码的 JSON 字节，由编解码器按 Accept 头序列化
+        webTestClient.get()
+                .uri("/socialInsuranceQuery?monthlySalary=700000&age=45&asOf=2025-04-01")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody()
+                .jsonPath("$.employeeCost.careCost").isEqualTo(5644.5)
+                .jsonPath("$.employmentInsurance").doesNotExist();
+
+        // 没有可用的编码器时按内容协商返回 406，而不是强行返回 JSON
+        webTestClient.get()
+                .uri("/socialInsuranceQuery?monthlySalary=700000&age=45&asOf=2025-04-01")
+                .accept(MediaType.APPLICATION_XML)
+                .exchange()
+                .expectStatus().isEqualTo(406);
+    }
+
+    @Test
+    void addsEmploymentInsuranceForIndustry() {
+        // 令和7年度一般事业：雇员 5.5‰、雇主 9‰
+        webTestClient.get()
+                .uri("/socialInsuranceQuery?monthlySalary=700000&age=45&asOf=2025-04-01&industry=general")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.employeeCost.healthCostWithNoCare").isEqualTo(35216.0)
+                .jsonPath("$.employmentInsurance.industry").isEqualTo("general")
+                .jsonPath("$.employmentInsurance.employeeCost").isEqualTo(3850.0)
+                .jsonPath("$.employmentInsurance.employerCost").isEqualTo(6300.0);
+    }
+
+    @Test
+    void answersBatchQueryInRequestOrder() {
+        webTestClient.post()
+                .uri("/socialInsuranceQuery/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        [{"employeeId":"E001","monthlySalary":700000,"age":45,"asOf":"2025-04-01"},
+                         {"employeeId":"E002","monthlySalary":-1,"age":30,"asOf":"2025-04-01"},
+                         {"employeeId":"E003","monthlySalary":700000,"age":30,"prefecture":"kanagawa","asOf":"2025-04-01"}]
+                        """)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(3)
+                .jsonPath("$[0].employeeId").isEqualTo("E001")
+                .jsonPath("$[0].employeeCost.careCost").isEqualTo(5644.5)
+                .jsonPath("$[0].error").doesNotExist()
+                .jsonPath("$[1].employeeId").isEqualTo("E002")
+                .jsonPath("$[1].employeeCost").doesNotExist()
+                .jsonPath("$[1].error").isEqualTo("未找到月薪 -1 对应的保险费等级")
+                .jsonPath("$[2].employeeId").isEqualTo("E003")
+                .jsonPath("$[2].employeeCost.healthCostWithNoCare").isEqualTo(35216.0);
+    }
+
+    @Test
+    void streamsNdjsonBatchResultsPerLine() {
+        List<SocialInsuranceBatchResultDto> results = webTestClient.post()
+                .uri("/socialInsuranceQuery/batch")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue("""
+                        {"employeeId":"E001","monthlySalary":700000,"age":45,"asOf":"2025-04-01"}
+                        {"employeeId":"E002","monthlySalary":-1,"age":45,"asOf":"2025-04-01"}
+                        {"employeeId":"E003","monthlySalary":700000,"age":30,"asOf":"2025-04-01"}
+                        """)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(SocialInsuranceBatchResultDto.class)
+                .getResponseBody()
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        // 每行一条结果，顺序与请求一致；中间一行没有对应等级，不影响前后两行
+        assertEquals(3, results.size());
+        assertEquals("E001", results.get(0).employeeId());
+        assertEquals(0, new BigDecimal("5644.5").compareTo(results.get(0).employeeCost().careCost()));
+        assertNull(results.get(0).error());
+        assertEquals("E002", results.get(1).employeeId());
+        assertNull(results.get(1).employeeCost());
+        assertEquals("未找到月薪 -1 对应的保险费等级", results.get(1).error());
+        assertEquals("E003", results.get(2).employeeId());
+        assertEquals(0, new BigDecimal("35216").compareTo(results.get(2).employeeCost().healthCostWithNoCare()));
+        assertEquals(0, results.get(2).employeeCost().careCost().signum());
+    }
+
+    @Test
+    void rejectsOversizeBatch() {
+        // 上限为 10000 条，提交 10001 条
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i <= 10_000; i++) {
+            body.append(i == 0 ? "" : ",").append("{\"monthlySalary\":700000,\"age\":45}");
+        }
+        body.append(']');
+
+        webTestClient.post()
+                .uri("/socialInsuranceQuery/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body.toString())
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("批量查询条数不能超过 10000，请分批提交或使用 application/x-ndjson 流式查询");
+    }
+
+    @Test
+    void hidesAdminImportByDefault() {
+        webTestClient.post()
+                .uri("/admin/premiumBrackets/import")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .bodyValue("tokyo,2025-03-01,,1,58000,0,63000,2900.00,3479.00,8052.00\n")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.timestamp").exists()
+                .jsonPath("$.status").isEqualTo(404)
+                .jsonPath("$.error").isEqualTo("Not Found")
+                .jsonPath("$.message").isEqualTo("404 NOT_FOUND")
+                .jsonPath("$.path").isEqualTo("/admin/premiumBrackets/import");
+    }
+
+    @Test
+    void rejectsUnknownIndustry() {
+        webTestClient.get()
+                .uri("/socialInsuranceQuery?monthlySalary=700000&age=45&industry=unknown")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void rejectsSalaryOutsideRateTable() {
+        webTestClient.get()
+                .uri("/socialInsuranceQuery?monthlySalary=-1&age=30")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+}
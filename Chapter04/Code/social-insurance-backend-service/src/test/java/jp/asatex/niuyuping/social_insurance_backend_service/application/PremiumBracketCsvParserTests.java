@@ -0,0 +1,80 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.application;
+
+import jp.asatex.niuyuping.social_insurance_backend_service.entity.PremiumBracket;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 等级表 CSV 解析测试
+ */
+class PremiumBracketCsvParserTests {
+
+    private static final String ROW = "tokyo,2025-03-01,,1,58000,0,63000,2900.00,3479.00,8052.00";
+
+    @Test
+    void parsesRow() {
+        PremiumBracket bracket = PremiumBracketCsvParser.parse(2, " tokyo , 2025-03-01 , 2026-03-01 ,1,58000,0,63000,2900,3479.5,8052.00");
+
+        assertEquals("tokyo", bracket.getPrefecture());
+        assertEquals(LocalDate.of(2025, 3, 1), bracket.getValidFrom());
+        assertEquals(LocalDate.of(2026, 3, 1), bracket.getValidTo());
+        assertEquals("1", bracket.getGrade());
+        assertEquals(58000, bracket.getStdRem());
+        assertEquals(0, bracket.getMinAmount());
+        assertEquals(63000, bracket.getMaxAmount());
+        assertEquals(new BigDecimal("3479.5"), bracket.getHealthCare());
+        assertNull(PremiumBracketCsvParser.parse(1, ROW).getValidTo());
+    }
+
+    @Test
+    void skipsHeaderAndBlankLines() {
+        assertTrue(PremiumBracketCsvParser.isSkippable("prefecture,valid_from,valid_to,grade"));
+        assertTrue(PremiumBracketCsvParser.isSkippable("   "));
+        assertFalse(PremiumBracketCsvParser.isSkippable(ROW));
+    }
+
+    @Test
+    void rejectsMalformedRows() {
+        assertMessage("CSV 第 3 行应有 10 列，实际为 9 列", "tokyo,2025-03-01,,1,58000,0,63000,2900.00,3479.00");
+        assertMessage("CSV 第 3 行应有 10 列，实际为 11 列", ROW + ",1");
+        assertMessage("CSV 第 3 行的 grade 不能为空", "tokyo,2025-03-01,, ,58000,0,63000,2900.00,3479.00,8052.00");
+        assertThrows(IllegalArgumentException.class,
+                () -> PremiumBracketCsvParser.parse(3, "tokyo,2025-02-30,,1,58000,0,63000,2900.00,3479.00,8052.00"));
+        assertThrows(IllegalArgumentException.class,
+                () -> PremiumBracketCsvParser.parse(3, "tokyo,2025-03-01,,1,58000,0,6.3e4,2900.00,3479.00,8052.00"));
+        assertThrows(IllegalArgumentException.class,
+                () -> PremiumBracketCsvParser.parse(3, "tokyo,2025-03-01,,1,58000,0,63000,abc,3479.00,8052.00"));
+    }
+
+    @Test
+    void rejectsOversizeInput() {
+        String longRow = "tokyo,2025-03-01,,1,58000,0,63000,2900.00,3479.00," + "8".repeat(PremiumBracketCsvParser.MAX_LINE_LENGTH);
+        assertMessage("CSV 第 3 行超过 " + PremiumBracketCsvParser.MAX_LINE_LENGTH + " 个字符", longRow);
+
+        PremiumBracket bracket = PremiumBracketCsvParser.parse(1, ROW);
+        List<PremiumBracket> atLimit = new ArrayList<>(Collections.nCopies(PremiumBracketCsvParser.MAX_ROWS, bracket));
+        assertSame(atLimit, PremiumBracketCsvParser.requireWithinLimit(atLimit));
+        atLimit.add(bracket);
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> PremiumBracketCsvParser.requireWithinLimit(atLimit));
+        assertEquals("CSV 等级行数超过上限 " + PremiumBracketCsvParser.MAX_ROWS, e.getMessage());
+    }
+
+    private static void assertMessage(String expected, String line) {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> PremiumBracketCsvParser.parse(3, line));
+        assertEquals(expected, e.getMessage());
+    }
+}
@@ -0,0 +1,84 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.controller;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jp.asatex.niuyuping.social_insurance_backend_service.application.PremiumBracketApplicationService;
+import jp.asatex.niuyuping.social_insurance_backend_service.config.SocialInsuranceAdminProperties;
+import jp.asatex.niuyuping.social_insurance_backend_service.config.SocialInsuranceCacheProperties;
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.PremiumBracketDomainService;
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.PremiumBracketMetrics;
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.SocialInsuranceResultCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+/**
+ * 等级表导入接口测试
+ * 不启动 Spring 容器和数据库：被测的开关和校验都在写入数据库之前完成
+ */
+class PremiumBracketAdminControllerTests {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private static final String HEADER = "prefecture,valid_from,valid_to,grade,std_rem,min_amount,max_amount,"
+            + "health_no_care,health_care,pension\n";
+
+    @Test
+    void answersNotFoundWhenDisabled() {
+        client(false).post()
+                .uri("/admin/premiumBrackets/import")
+                .contentType(TEXT_CSV)
+                .bodyValue(HEADER + "tokyo,2025-03-01,,1,58000,0,63000,2900.00,3479.00,8052.00\n")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void rejectsPremiumWithMoreThanTwoDecimals() {
+        expectBadRequest("tokyo,2025-03-01,,1,58000,0,63000,2900.005,3479.00,8052.00\n",
+                "等级表 tokyo（2025-03-01 起） 中的等级 1 的 health_no_care 最多保留 2 位小数");
+    }
+
+    @Test
+    void rejectsInvertedAmountRange() {
+        expectBadRequest("tokyo,2025-03-01,,1,58000,63000,63000,2900.00,3479.00,8052.00\n",
+                "等级表 tokyo（2025-03-01 起） 中的等级 1 的最小金额必须小于最大金额");
+    }
+
+    @Test
+    void rejectsNegativeAmounts() {
+        expectBadRequest("tokyo,2025-03-01,,1,58000,-1,63000,2900.00,3479.00,8052.00\n",
+                "等级表 tokyo（2025-03-01 起） 中的等级 1 的金额不能为负数");
+        expectBadRequest("tokyo,2025-03-01,,1,58000,0,63000,2900.00,-3479.00,8052.00\n",
+                "等级表 tokyo（2025-03-01 起） 中的等级 1 的 health_care 必须在 0 到 99999999.99 之间");
+    }
+
+    @Test
+    void rejectsMalformedCsv() {
+        expectBadRequest("tokyo,2025-03-01,,1,58000,0,63000\n", "CSV 第 2 行应有 10 列，实际为 7 列");
+    }
+
+    private static void expectBadRequest(String rows, String message) {
+        client(true).post()
+                .uri("/admin/premiumBrackets/import")
+                .contentType(TEXT_CSV)
+                .bodyValue(HEADER + rows)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo(message)
+                .jsonPath("$.path").isEqualTo("/admin/premiumBrackets/import");
+    }
+
+    private static WebTestClient client(boolean adminEnabled) {
+        PremiumBracketMetrics metrics = new PremiumBracketMetrics(new SimpleMeterRegistry());
+        SocialInsuranceResultCache resultCache = new SocialInsuranceResultCache(
+                new SocialInsuranceCacheProperties(false, 0, null, null), null, metrics);
+        PremiumBracketDomainService domainService = new PremiumBracketDomainService(null, null, null, metrics,
+                resultCache, null);
+        PremiumBracketAdminController controller = new PremiumBracketAdminController(
+                new PremiumBracketApplicationService(domainService), new SocialInsuranceAdminProperties(adminEnabled));
+        return WebTestClient.bindToController(controller)
+                .controllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.domain;
+
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.dto.SocialInsuranceDomainDto;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * 等级索引中按位置保存的编码结果测试
+ */
+class BracketIndexTests {
+
+    @Test
+    void encodesEachResultSlotOnce() {
+        BracketIndex index = BracketIndex.of(PremiumBracketFixtures.kanagawa2025());
+        List<SocialInsuranceDomainDto> encoded = new ArrayList<>();
+        Function<SocialInsuranceDomainDto, byte[]> encoder = result -> {
+            encoded.add(result);
+            return result.toString().getBytes(StandardCharsets.UTF_8);
+        };
+        int position = index.indexOf(700_000);
+
+        byte[] withCare = index.encodedResultAt(position, true, encoder);
+        byte[] withoutCare = index.encodedResultAt(position, false, encoder);
+
+        // 同一位置再次使用时直接返回保存的字节，是否缴纳介护保险各占一个位置
+        assertSame(withCare, index.encodedResultAt(position, true, encoder));
+        assertSame(withoutCare, index.encodedResultAt(position, false, encoder));
+        assertEquals(List.of(index.resultAt(position, true), index.resultAt(position, false)), encoded);
+        assertArrayEquals(index.resultAt(position, true).toString().getBytes(StandardCharsets.UTF_8), withCare);
+    }
+
+    @Test
+    void rebuiltIndexEncodesAgain() {
+        BracketIndex index = BracketIndex.of(PremiumBracketFixtures.kanagawa2025());
+        BracketIndex rebuilt = BracketIndex.of(PremiumBracketFixtures.kanagawa2025());
+        Function<SocialInsuranceDomainDto, byte[]> encoder = result -> result.toString().getBytes(StandardCharsets.UTF_8);
+        int position = index.indexOf(700_000);
+
+        byte[] before = index.encodedResultAt(position, true, encoder);
+        byte[] after = rebuilt.encodedResultAt(position, true, encoder);
+
+        // 等级表重建后旧索引的编码结果不再使用
+        assertNotSame(before, after);
+        assertArrayEquals(before, after);
+    }
+}
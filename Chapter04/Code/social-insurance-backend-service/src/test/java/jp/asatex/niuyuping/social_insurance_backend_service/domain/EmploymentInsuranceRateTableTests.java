@@ -0,0 +1,76 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.domain;
+
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.dto.SocialInsuranceDomainDto;
+import jp.asatex.niuyuping.social_insurance_backend_service.entity.EmploymentInsuranceRate;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 雇用保险费率表的期间解析与定点计算测试
+ * 费率与 V5__employment_insurance_rate.sql 一致
+ */
+class EmploymentInsuranceRateTableTests {
+
+    private static final LocalDate FY2024 = LocalDate.of(2024, 4, 1);
+    private static final LocalDate FY2025 = LocalDate.of(2025, 4, 1);
+
+    private static final EmploymentInsuranceRateTable TABLE = EmploymentInsuranceRateTable.of(List.of(
+            rate("general", FY2024, FY2025, "6.000", "9.500"),
+            rate("agriculture", FY2024, FY2025, "7.000", "10.500"),
+            rate("construction", FY2024, FY2025, "7.000", "11.500"),
+            rate("general", FY2025, null, "5.500", "9.000"),
+            rate("agriculture", FY2025, null, "6.500", "10.000"),
+            rate("construction", FY2025, null, "6.500", "11.000")));
+
+    @Test
+    void resolvesRatePeriodsByIndustry() {
+        assertEquals(6, TABLE.size());
+        assertEquals(cost("general", "1650.00", "2700.00"), TABLE.find("general", FY2025).calculate(300_000));
+        assertEquals(cost("general", "1800.00", "2850.00"),
+                TABLE.find("general", FY2025.minusDays(1)).calculate(300_000));
+        assertEquals(cost("construction", "2100.00", "3450.00"), TABLE.find("construction", FY2024).calculate(300_000));
+        assertEquals(cost("agriculture", "802.47", "1234.57"),
+                TABLE.find("agriculture", LocalDate.of(2030, 1, 1)).calculate(123_457));
+        assertNull(TABLE.find("general", FY2024.minusDays(1)));
+        assertNull(TABLE.find("mining", FY2025));
+        assertNull(EmploymentInsuranceRateTable.empty().find("general", FY2025));
+    }
+
+    @Test
+    void premiumMatchesBigDecimalHalfUp() {
+        String[] perMilles = {"5.500", "6.500", "9.000", "10.000", "11.000", "11.500", "0.125"};
+        for (String perMille : perMilles) {
+            BigDecimal rate = new BigDecimal(perMille).movePointLeft(3);
+            long ppm = FixedPointPremiumCalculator.perMilleToPpm(new BigDecimal(perMille));
+            for (int wage = 0; wage <= 2_000_000; wage += 997) {
+                BigDecimal expected = BigDecimal.valueOf(wage).multiply(rate).setScale(2, RoundingMode.HALF_UP);
+                assertEquals(expected, FixedPointPremiumCalculator.toYen(FixedPointPremiumCalculator.premiumSen(wage, ppm)),
+                        "wage=" + wage + ", rate=" + perMille);
+            }
+        }
+    }
+
+    private static EmploymentInsuranceRate rate(String industry, LocalDate validFrom, LocalDate validTo,
+                                                String employeeRate, String employerRate) {
+        return EmploymentInsuranceRate.builder()
+                .industry(industry)
+                .validFrom(validFrom)
+                .validTo(validTo)
+                .employeeRate(new BigDecimal(employeeRate))
+                .employerRate(new BigDecimal(employerRate))
+                .build();
+    }
+
+    private static SocialInsuranceDomainDto.EmploymentInsuranceCost cost(String industry, String employeeCost,
+                                                                         String employerCost) {
+        return new SocialInsuranceDomainDto.EmploymentInsuranceCost(industry, new BigDecimal(employeeCost),
+                new BigDecimal(employerCost));
+    }
+}
@@ -0,0 +1,91 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.domain;
+
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.dto.SocialInsuranceDomainDto;
+import jp.asatex.niuyuping.social_insurance_backend_service.entity.PremiumBracket;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 定点整数计算引擎与原 BigDecimal 计算路径的等价性测试
+ */
+class FixedPointPremiumCalculatorTests {
+
+    private static final Integer[] AGES = {null, 0, 18, 39, 40, 41, 64, 65, 70, 100};
+
+    @Test
+    void matchesBigDecimalPathForAllGradesAndAges() {
+        List<PremiumBracket> brackets = PremiumBracketFixtures.kanagawa2025();
+        assertEquals(50, brackets.size());
+
+        BracketIndex index = BracketIndex.of(brackets);
+        for (PremiumBracket bracket : brackets) {
+            int position = index.indexOf(bracket.getMinAmount());
+            assertEquals(bracket, index.bracketAt(position));
+            for (Integer age : AGES) {
+                SocialInsuranceDomainDto expected = calculateWithBigDecimal(bracket, age);
+                boolean careEligible = FixedPointPremiumCalculator.isCareEligible(age);
+                String context = "grade=" + bracket.getGrade() + ", age=" + age;
+
+                assertEquals(expected, FixedPointPremiumCalculator.calculate(bracket, careEligible), context);
+                assertEquals(expected, FixedPointPremiumCalculator.calculate(index.healthNoCareSen(position),
+                        index.healthCareSen(position), index.pensionSen(position), careEligible), context);
+                assertEquals(expected, index.resultAt(position, careEligible), context);
+            }
+        }
+    }
+
+    @Test
+    void halfUpMatchesBigDecimalRounding() {
+        BigDecimal half = new BigDecimal("0.5");
+        for (long sen = -100_000; sen <= 100_000; sen++) {
+            BigDecimal expected = BigDecimal.valueOf(sen, 2).multiply(half).setScale(2, RoundingMode.HALF_UP);
+            assertEquals(expected, FixedPointPremiumCalculator.toYen(FixedPointPremiumCalculator.halfUp(sen)),
+                    "sen=" + sen);
+        }
+    }
+
+    @Test
+    void resolvesBoundariesAndGaps() {
+        BracketIndex index = BracketIndex.of(PremiumBracketFixtures.kanagawa2025());
+        assertEquals(-1, index.indexOf(-1));
+        assertEquals("1", index.bracketAt(index.indexOf(0)).getGrade());
+        assertEquals("1", index.bracketAt(index.indexOf(62_999)).getGrade());
+        assertEquals("2", index.bracketAt(index.indexOf(63_000)).getGrade());
+        assertEquals("35(32)", index.bracketAt(index.indexOf(650_000)).getGrade());
+        assertEquals("50", index.bracketAt(index.indexOf(999_999_998)).getGrade());
+        assertEquals(-1, index.indexOf(999_999_999));
+        assertEquals(-1, BracketIndex.empty().indexOf(100_000));
+    }
+
+    /**
+     * 原 PremiumBracketDomainService.calculateSocialInsurance 的 BigDecimal 实现，作为等价性基准
+     */
+    private static SocialInsuranceDomainDto calculateWithBigDecimal(PremiumBracket b, Integer age) {
+        BigDecimal healthCostWithNoCare = b.getHealthNoCare();
+        BigDecimal healthCostWithCare = b.getHealthCare();
+        BigDecimal pension = b.getPension();
+
+        BigDecimal careCost = BigDecimal.ZERO;
+        if (age != null && age >= 40) {
+            careCost = healthCostWithCare.subtract(healthCostWithNoCare);
+        }
+
+        BigDecimal half = new BigDecimal("0.5");
+        int scale = 2;
+
+        SocialInsuranceDomainDto.EmployeeCost employeeCost = new SocialInsuranceDomainDto.EmployeeCost(
+                healthCostWithNoCare.multiply(half).setScale(scale, RoundingMode.HALF_UP),
+                careCost.multiply(half).setScale(scale, RoundingMode.HALF_UP),
+                pension.multiply(half).setScale(scale, RoundingMode.HALF_UP));
+        SocialInsuranceDomainDto.EmployerCost employerCost = new SocialInsuranceDomainDto.EmployerCost(
+                healthCostWithNoCare.multiply(half).setScale(scale, RoundingMode.HALF_UP),
+                careCost.multiply(half).setScale(scale, RoundingMode.HALF_UP),
+                pension.multiply(half).setScale(scale, RoundingMode.HALF_UP));
+        return new SocialInsuranceDomainDto(employeeCost, employerCost);
+    }
+}
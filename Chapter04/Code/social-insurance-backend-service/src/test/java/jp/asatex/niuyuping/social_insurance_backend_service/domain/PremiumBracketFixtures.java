@@ -0,0 +1,70 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.domain;
+
+import jp.asatex.niuyuping.social_insurance_backend_service.entity.PremiumBracket;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 测试用保险费等级数据
+ * 直接解析 V1 迁移脚本中的 INSERT 数据，保证与数据库中的等级表一致
+ */
+public final class PremiumBracketFixtures {
+
+    private static final String V1_MIGRATION = "/db/migration/V1__init_premium_bracket_table.sql";
+
+    private static final Pattern ROW = Pattern.compile(
+            "\\('([^']+)',\\s*(\\d+),\\s*(\\d+),\\s*(\\d+),\\s*([\\d.]+),\\s*([\\d.]+),\\s*([\\d.]+)\\)");
+
+    /**
+     * V1 数据的生效日（与 V4 迁移脚本中的默认值一致）
+     */
+    public static final LocalDate VALID_FROM = LocalDate.of(2025, 3, 1);
+
+    private PremiumBracketFixtures() {
+    }
+
+    /**
+     * 2025年神奈川县社会保险费等级表（50 个等级，ID 从 1 开始）
+     *
+     * @return 保险费等级列表
+     */
+    public static List<PremiumBracket> kanagawa2025() {
+        Matcher matcher = ROW.matcher(readMigration());
+        List<PremiumBracket> brackets = new ArrayList<>();
+        while (matcher.find()) {
+            brackets.add(PremiumBracket.builder()
+                    .id((long) brackets.size() + 1)
+                    .grade(matcher.group(1))
+                    .stdRem(Integer.valueOf(matcher.group(2)))
+                    .minAmount(Integer.valueOf(matcher.group(3)))
+                    .maxAmount(Integer.valueOf(matcher.group(4)))
+                    .healthNoCare(new BigDecimal(matcher.group(5)))
+                    .healthCare(new BigDecimal(matcher.group(6)))
+                    .pension(new BigDecimal(matcher.group(7)))
+                    .prefecture(BracketCatalog.DEFAULT_PREFECTURE)
+                    .validFrom(VALID_FROM)
+                    .build());
+        }
+        return brackets;
+    }
+
+    private static String readMigration() {
+        try (InputStream in = PremiumBracketFixtures.class.getResourceAsStream(V1_MIGRATION)) {
+            if (in == null) {
+                throw new IllegalStateException("未找到迁移脚本: " + V1_MIGRATION);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
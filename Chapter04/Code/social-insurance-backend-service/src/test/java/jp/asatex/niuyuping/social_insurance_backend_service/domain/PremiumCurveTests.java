@@ -0,0 +1,57 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.domain;
+
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.dto.SocialInsuranceCurvePointDomainDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 保险费曲线的单次遍历结果与逐点二分查找的等价性测试
+ */
+class PremiumCurveTests {
+
+    @Test
+    void matchesPerPointLookups() {
+        BracketIndex index = BracketIndex.of(PremiumBracketFixtures.kanagawa2025());
+        int[][] ranges = {{0, 1_500_000, 1_000}, {62_000, 64_000, 1}, {0, 999_999_998, 7_777_777}, {650_000, 650_000, 5}};
+        for (int[] range : ranges) {
+            for (boolean careEligible : new boolean[]{false, true}) {
+                List<SocialInsuranceCurvePointDomainDto> curve = PremiumCurve.generate(
+                        index, range[0], range[1], range[2], careEligible).collectList().block();
+                assertNotNull(curve);
+                assertEquals((range[1] - range[0]) / range[2] + 1, curve.size());
+                for (int i = 0; i < curve.size(); i++) {
+                    int salary = range[0] + i * range[2];
+                    SocialInsuranceCurvePointDomainDto point = curve.get(i);
+                    assertEquals(salary, point.monthlySalary());
+                    int position = index.indexOf(salary);
+                    assertEquals(index.resultAt(position, careEligible), point.result(), "salary=" + salary);
+                    assertNull(point.error());
+                }
+            }
+        }
+    }
+
+    @Test
+    void reportsSalariesWithoutBracket() {
+        BracketIndex index = BracketIndex.of(PremiumBracketFixtures.kanagawa2025());
+        List<SocialInsuranceCurvePointDomainDto> curve = PremiumCurve.generate(
+                index, 999_999_997, Integer.MAX_VALUE, 1, false).take(3).collectList().block();
+        assertNotNull(curve);
+        assertEquals(3, curve.size());
+        assertNotNull(curve.get(0).result());
+        assertNotNull(curve.get(1).result());
+        assertNull(curve.get(2).result());
+        assertEquals(BracketNotFoundException.messageFor(999_999_999), curve.get(2).error());
+
+        List<SocialInsuranceCurvePointDomainDto> tail = PremiumCurve.generate(
+                index, Integer.MAX_VALUE - 1, Integer.MAX_VALUE, 1, false).collectList().block();
+        assertNotNull(tail);
+        assertEquals(2, tail.size());
+        assertEquals(Integer.MAX_VALUE, tail.get(1).monthlySalary());
+    }
+}
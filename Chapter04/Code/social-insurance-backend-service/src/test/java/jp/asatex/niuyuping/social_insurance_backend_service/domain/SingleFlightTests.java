@@ -0,0 +1,107 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.domain;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 相同请求合并的并发语义测试
+ */
+class SingleFlightTests {
+
+    @Test
+    void lateSubscriberReceivesValueEmittedBeforeTermination() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(16, () -> { });
+        Sinks.Many<String> source = Sinks.many().unicast().onBackpressureBuffer();
+        AtomicInteger loads = new AtomicInteger();
+
+        List<String> first = new ArrayList<>();
+        singleFlight.execute("key", () -> {
+            loads.incrementAndGet();
+            return Mono.fromDirect(source.asFlux());
+        }).subscribe(first::add);
+
+        // 已发出值但尚未终止时加入的订阅者也必须拿到该值
+        source.tryEmitNext("value");
+        List<String> late = new ArrayList<>();
+        singleFlight.execute("key", () -> {
+            loads.incrementAndGet();
+            return Mono.just("reloaded");
+        }).subscribe(late::add);
+        source.tryEmitComplete();
+
+        assertEquals(1, loads.get());
+        assertEquals(List.of("value"), first);
+        assertEquals(List.of("value"), late);
+        assertEquals(0, singleFlight.size());
+    }
+
+    @Test
+    void subscriberJoiningAtTerminationReceivesValue() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(16, () -> { });
+        AtomicInteger loads = new AtomicInteger();
+        List<String> joined = new ArrayList<>();
+
+        // 终止信号已发出、键尚未移除时加入的订阅者
+        String first = singleFlight.execute("key", () -> {
+            loads.incrementAndGet();
+            return Mono.just("value");
+        }).doOnSuccess(value -> singleFlight.execute("key", () -> {
+            loads.incrementAndGet();
+            return Mono.just("reloaded");
+        }).subscribe(joined::add)).block(Duration.ofSeconds(1));
+
+        assertEquals("value", first);
+        assertEquals(List.of("value"), joined);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void concurrentSubscribersAllReceiveValue() throws InterruptedException {
+        int subscribers = 64;
+        for (int round = 0; round < 200; round++) {
+            SingleFlight<String, Integer> singleFlight = new SingleFlight<>(16, () -> { });
+            AtomicInteger loads = new AtomicInteger();
+            AtomicInteger received = new AtomicInteger();
+            CountDownLatch done = new CountDownLatch(subscribers);
+            for (int i = 0; i < subscribers; i++) {
+                singleFlight.execute("key", () -> Mono.fromCallable(loads::incrementAndGet))
+                        .subscribeOn(Schedulers.parallel())
+                        .doFinally(signal -> done.countDown())
+                        .subscribe(value -> received.incrementAndGet());
+            }
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(subscribers, received.get(), "round " + round + ", loads " + loads.get());
+        }
+    }
+
+    @Test
+    void cancelsLoadWhenAllSubscribersCancel() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(16, () -> { });
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Mono<String> never = Mono.<String>never().doOnCancel(() -> cancelled.set(true));
+
+        Disposable first = singleFlight.execute("key", () -> never).subscribe();
+        Disposable second = singleFlight.execute("key", () -> never).subscribe();
+        first.dispose();
+        assertEquals(false, cancelled.get());
+        second.dispose();
+
+        assertTrue(cancelled.get());
+        assertEquals(0, singleFlight.size());
+        assertEquals("fresh", singleFlight.execute("key", () -> Mono.just("fresh")).block(Duration.ofSeconds(1)));
+    }
+}
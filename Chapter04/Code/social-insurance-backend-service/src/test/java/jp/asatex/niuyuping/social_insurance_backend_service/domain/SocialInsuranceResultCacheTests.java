@@ -0,0 +1,85 @@
+package jp.asatex.niuyuping.social_insurance_backend_service.domain;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jp.asatex.niuyuping.social_insurance_backend_service.config.SocialInsuranceCacheProperties;
+import jp.asatex.niuyuping.social_insurance_backend_service.domain.dto.SocialInsuranceDomainDto;
+import jp.asatex.niuyuping.social_insurance_backend_service.entity.PremiumBracket;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 结果缓存的开关、命中与统计指标测试
+ */
+class SocialInsuranceResultCacheTests {
+
+    private static final PremiumBracket BRACKET = PremiumBracketFixtures.kanagawa2025().get(20);
+
+    @Test
+    void servesRepeatedLookupsFromCacheWhenEnabled() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SocialInsuranceResultCache cache = cache(true, registry);
+        AtomicInteger calculations = new AtomicInteger();
+        Supplier<SocialInsuranceDomainDto> calculation = counting(calculations);
+
+        SocialInsuranceDomainDto first = cache.get(BRACKET, true, calculation).block(Duration.ofSeconds(1));
+        SocialInsuranceDomainDto second = cache.get(BRACKET, true, calculation).block(Duration.ofSeconds(1));
+        cache.get(BRACKET, false, calculation).block(Duration.ofSeconds(1));
+
+        assertTrue(cache.isEnabled());
+        assertSame(first, second);
+        assertEquals(2, calculations.get());
+        assertEquals(1.0, gets(registry, "hit"));
+        assertEquals(2.0, gets(registry, "miss"));
+
+        // 索引重建时清空，之后重新计算
+        cache.invalidateAll();
+        cache.get(BRACKET, true, calculation).block(Duration.ofSeconds(1));
+        assertEquals(3, calculations.get());
+    }
+
+    @Test
+    void calculatesEveryTimeWhenDisabled() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SocialInsuranceResultCache cache = cache(false, registry);
+        AtomicInteger calculations = new AtomicInteger();
+        Supplier<SocialInsuranceDomainDto> calculation = counting(calculations);
+
+        cache.get(BRACKET, true, calculation).block(Duration.ofSeconds(1));
+        cache.get(BRACKET, true, calculation).block(Duration.ofSeconds(1));
+        cache.invalidateAll();
+
+        assertFalse(cache.isEnabled());
+        assertEquals(2, calculations.get());
+        assertNull(registry.find("cache.gets").meter());
+    }
+
+    private static SocialInsuranceResultCache cache(boolean enabled, SimpleMeterRegistry registry) {
+        SocialInsuranceCacheProperties properties = new SocialInsuranceCacheProperties(enabled, 100,
+                Duration.ofMinutes(1), Duration.ofMinutes(10));
+        return new SocialInsuranceResultCache(properties, null, new PremiumBracketMetrics(registry));
+    }
+
+    private static Supplier<SocialInsuranceDomainDto> counting(AtomicInteger calculations) {
+        return () -> {
+            calculations.incrementAndGet();
+            return FixedPointPremiumCalculator.calculate(BRACKET, true);
+        };
+    }
+
+    private static double gets(SimpleMeterRegistry registry, String result) {
+        return registry.get("cache.gets")
+                .tag("cache", PremiumBracketMetrics.RESULT_CACHE_NAME)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}